@@ -0,0 +1,131 @@
+package com.linknest.api.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+Caps how many callers are inside the connection pool at once, holding a
+connection or waiting for one, with a fair semaphore. The pool already bounds the
+connections themselves but not its queue of waiters. With virtual threads there is
+no request thread pool in front of it either, so a spike could park thousands of
+requests in the pool until its own timeout. Callers past the cap wait here in
+arrival order (parking only the virtual thread) and fail with
+SQLTransientConnectionException after the acquire timeout. The permit is released
+when the connection is closed.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutMs;
+
+    public ConcurrencyLimitedDataSource(DataSource target, int maxConcurrent, long acquireTimeoutMs) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releaseOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releaseOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("maxConcurrent", maxConcurrent);
+        metrics.put("inUse", maxConcurrent - permits.availablePermits());
+        metrics.put("waiting", permits.getQueueLength());
+        return metrics;
+    }
+
+    // Metrics of every limit behind `dataSource`, through proxies and the replica router, keyed by
+    // target ("primary", "replica"); empty when no limit is applied
+    public static Map<String, Object> metricsBehind(DataSource dataSource) {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        collectMetrics("primary", dataSource, metrics);
+        return metrics;
+    }
+
+    private static void collectMetrics(String name, DataSource dataSource, Map<String, Object> into) {
+        if (dataSource instanceof ConcurrencyLimitedDataSource limited) {
+            into.put(name, limited.metrics());
+        } else if (dataSource instanceof DelegatingDataSource delegating && delegating.getTargetDataSource() != null) {
+            collectMetrics(name, delegating.getTargetDataSource(), into);
+        } else if (dataSource instanceof AbstractRoutingDataSource routing) {
+            new TreeMap<>(routing.getResolvedDataSources()).forEach((key, target) ->
+                    collectMetrics(key.toString().toLowerCase(), target, into));
+        }
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "No database permit available after " + acquireTimeoutMs + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+        }
+    }
+
+    private Connection releaseOnClose(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    // Identity of the proxy itself: Spring matches connection holders by equals
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if (method.getName().equals("close")) {
+                        try {
+                            target.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
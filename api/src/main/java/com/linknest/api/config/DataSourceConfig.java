@@ -0,0 +1,36 @@
+package com.linknest.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class DataSourceConfig {
+
+    // Wraps each Hikari pool in ConcurrencyLimitedDataSource when db.concurrency-limit.enabled is set
+    // (it follows spring.threads.virtual.enabled by default). Static so it is registered before the pool.
+    @Bean
+    public static BeanPostProcessor dataSourceConcurrencyLimit(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari
+                        && environment.getProperty("db.concurrency-limit.enabled", Boolean.class, false)) {
+                    // Defaults to the pool size: callers past it wait in the limiter's fair queue, not in Hikari
+                    int maxConcurrent = environment.getProperty("db.concurrency-limit.max-concurrent", Integer.class,
+                            hikari.getMaximumPoolSize());
+                    long timeoutMs = environment.getProperty("db.concurrency-limit.acquire-timeout-ms", Long.class, 5000L);
+                    // Below the pool size the cap would leave connections idle
+                    if (maxConcurrent < hikari.getMaximumPoolSize()) {
+                        throw new IllegalStateException("db.concurrency-limit.max-concurrent (" + maxConcurrent
+                                + ") must be at least the pool size of " + beanName + " (" + hikari.getMaximumPoolSize() + ")");
+                    }
+                    return new ConcurrencyLimitedDataSource(hikari, maxConcurrent, timeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package com.linknest.api.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.linknest.api.dto.AdminLinkRow;
+import com.linknest.api.dto.AdminUserSummary;
+import com.linknest.api.dto.LinkResponse;
+import com.linknest.api.dto.PublicProfileResponse;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+ObjectWriters for payloads we serialize ourselves (cached public profiles, exports).
+They are built once from the application's ObjectMapper, so output matches what
+Spring MVC would write and the serializers are resolved only once.
+ */
+@Component
+public class JsonWriters {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ObjectWriter linkList;
+    private ObjectWriter link;
+    private ObjectWriter publicProfile;
+    private ObjectWriter adminUser;
+    private ObjectWriter adminLink;
+
+    @PostConstruct
+    public void init() {
+        linkList = objectMapper.writerFor(new TypeReference<List<LinkResponse>>() { });
+        link = objectMapper.writerFor(LinkResponse.class);
+        publicProfile = objectMapper.writerFor(PublicProfileResponse.class);
+        adminUser = objectMapper.writerFor(AdminUserSummary.class);
+        adminLink = objectMapper.writerFor(AdminLinkRow.class);
+    }
+
+    public byte[] linkList(List<LinkResponse> links) {
+        return write(linkList, links);
+    }
+
+    public byte[] publicProfile(PublicProfileResponse profile) {
+        return write(publicProfile, profile);
+    }
+
+    public ObjectWriter linkWriter() {
+        return link;
+    }
+
+    public ObjectWriter adminUserWriter() {
+        return adminUser;
+    }
+
+    public ObjectWriter adminLinkWriter() {
+        return adminLink;
+    }
+
+    private static byte[] write(ObjectWriter writer, Object value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.linknest.api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+Sends connections for read-only transactions (@Transactional(readOnly = true),
+read-only TransactionTemplates and Spring Data's read methods) to the replica
+pool, and everything else to the primary.
+
+The routing decision is made when a physical connection is fetched, so this must
+sit behind a LazyConnectionDataSourceProxy: Hibernate asks for a connection when
+the transaction begins, before Spring has marked it read-only.
+
+Replicas lag behind the primary, so a user who just wrote would otherwise not see
+their own change. Each read-write transaction records the authenticated user, and
+that user's reads stay on the primary for the sticky window afterwards. Reads
+whose result is shared with other users (the public profile cache) cannot rely
+on that and run through onPrimary instead.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    // Set by onPrimary for the current thread
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    private final AtomicLong primaryConnections = new AtomicLong();
+    private final AtomicLong replicaConnections = new AtomicLong();
+    private final AtomicLong stickyReads = new AtomicLong();
+    private final AtomicLong pinnedReads = new AtomicLong();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration stickyWindow, long maxTrackedUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxTrackedUsers)
+                .expireAfterWrite(stickyWindow)
+                .build();
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    // Runs the action with every connection it fetches taken from the primary, without counting
+    // the current user as a writer. Has no effect when no replica is configured.
+    public static <T> T onPrimary(Supplier<T> action) {
+        if (PRIMARY_ONLY.get() != null) {
+            return action.get();
+        }
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (PRIMARY_ONLY.get() != null) {
+            pinnedReads.incrementAndGet();
+            primaryConnections.incrementAndGet();
+            return Target.PRIMARY;
+        }
+        Target target = route(TransactionSynchronizationManager.isActualTransactionActive(),
+                TransactionSynchronizationManager.isCurrentTransactionReadOnly(), currentUsername());
+        (target == Target.REPLICA ? replicaConnections : primaryConnections).incrementAndGet();
+        return target;
+    }
+
+    Target route(boolean inTransaction, boolean readOnly, String username) {
+        if (!readOnly) {
+            // Only writes made inside a transaction count; lazy loads outside one also land here
+            if (inTransaction && username != null) {
+                recentWriters.put(username, Boolean.TRUE);
+            }
+            return Target.PRIMARY;
+        }
+        if (username != null && recentWriters.getIfPresent(username) != null) {
+            stickyReads.incrementAndGet();
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("primaryConnections", primaryConnections.get());
+        metrics.put("replicaConnections", replicaConnections.get());
+        metrics.put("stickyPrimaryReads", stickyReads.get());
+        metrics.put("pinnedPrimaryReads", pinnedReads.get());
+        metrics.put("recentWriters", recentWriters.estimatedSize());
+        return metrics;
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
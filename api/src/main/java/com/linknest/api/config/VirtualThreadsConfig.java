@@ -0,0 +1,20 @@
+package com.linknest.api.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+// spring.threads.virtual.enabled only takes effect on a Java 21+ runtime; on older ones Spring Boot
+// silently keeps the platform thread pools while db.concurrency-limit (on by default with the flag)
+// assumes they are gone. The app is built for Java 17, so refuse to start instead of ignoring it.
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    public VirtualThreadsConfig() {
+        int runtime = Runtime.version().feature();
+        if (runtime < 21) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true needs a Java 21+ runtime, "
+                    + "this is Java " + runtime + "; unset VIRTUAL_THREADS or run on Java 21");
+        }
+    }
+}
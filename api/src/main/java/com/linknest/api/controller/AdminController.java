@@ -1,29 +1,91 @@
 package com.linknest.api.controller;
 
+import com.linknest.api.config.ConcurrencyLimitedDataSource;
+import com.linknest.api.config.ReplicaRoutingDataSource;
+import com.linknest.api.dto.AdminUserSummary;
+import com.linknest.api.dto.CursorPage;
+import com.linknest.api.dto.RecentUser;
 import com.linknest.api.model.User;
 import com.linknest.api.repository.LinkRepository;
 import com.linknest.api.repository.UserRepository;
+import com.linknest.api.repository.UserRepositoryCustom;
+import com.linknest.api.security.LoginAttemptLimiter;
+import com.linknest.api.security.PasswordHashingExecutor;
+import com.linknest.api.security.TokenRevocationList;
+import com.linknest.api.service.AdminExportService;
+import com.linknest.api.service.AfterCommit;
+import com.linknest.api.service.ClickEventService;
+import com.linknest.api.service.ClickRateLimiter;
+import com.linknest.api.service.ExportFormat;
+import com.linknest.api.service.LinkSearchService;
+import com.linknest.api.service.PublicProfileService;
+import com.linknest.api.service.UserDetailsServiceImpl;
+import com.linknest.api.service.UserGrowthService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDate;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/admin")
 public class AdminController {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_RECENT_USERS = 100;
+    private static final int MAX_GROWTH_DAYS = 366;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private LinkRepository linkRepository;
 
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private UserGrowthService userGrowthService;
+
+    @Autowired
+    private PublicProfileService publicProfileService;
+
+    @Autowired
+    private AdminExportService adminExportService;
+
+    @Autowired
+    private LinkSearchService linkSearchService;
+
+    @Autowired
+    private ClickEventService clickEventService;
+
+    @Autowired
+    private ClickRateLimiter clickRateLimiter;
+
+    @Autowired
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired(required = false)
+    private ReplicaRoutingDataSource replicaRouting;
+
     // Check if user is admin before allowing access
     private boolean isAdmin(String username) {
         User user = userRepository.findByUsername(username)
@@ -31,8 +93,9 @@ public class AdminController {
         return user.getIsAdmin() != null && user.getIsAdmin();
     }
 
-    // Get overall statistics
+    // Get overall statistics (read-only, so served by the replica when one is configured)
     @GetMapping("/stats")
+    @Transactional(readOnly = true)
     public ResponseEntity<?> getStats(@AuthenticationPrincipal UserDetails userDetails) {
         if (!isAdmin(userDetails.getUsername())) {
             return ResponseEntity.status(403).body("Access denied: Admin only");
@@ -42,16 +105,11 @@ public class AdminController {
         long totalLinks = linkRepository.count();
 
         // Count active users (users who have at least one link)
-        List<User> allUsers = userRepository.findAll();
-        long activeUsers = allUsers.stream()
-                .filter(user -> user.getLinks() != null && !user.getLinks().isEmpty())
-                .count();
+        long activeUsers = linkRepository.countDistinctUsers();
 
         // Count recent registrations (last 7 days)
         LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
-        long recentRegistrations = allUsers.stream()
-                .filter(user -> user.getCreatedAt() != null && user.getCreatedAt().isAfter(weekAgo))
-                .count();
+        long recentRegistrations = userRepository.countByCreatedAtAfter(weekAgo);
 
         // Calculate average links per user
         double avgLinksPerUser = totalUsers > 0 ? (double) totalLinks / totalUsers : 0;
@@ -66,95 +124,147 @@ public class AdminController {
         return ResponseEntity.ok(stats);
     }
 
-    // Get recent users (last 10 registered)
+    // Get recent users (newest first, 10 per page by default)
     @GetMapping("/users/recent")
-    public ResponseEntity<?> getRecentUsers(@AuthenticationPrincipal UserDetails userDetails) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getRecentUsers(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "0") int page) {
+
         if (!isAdmin(userDetails.getUsername())) {
             return ResponseEntity.status(403).body("Access denied: Admin only");
         }
 
-        List<User> users = userRepository.findAll().stream()
-                .sorted((a, b) -> {
-                    if (a.getCreatedAt() == null) return 1;
-                    if (b.getCreatedAt() == null) return -1;
-                    return b.getCreatedAt().compareTo(a.getCreatedAt());
-                })
-                .limit(10)
-                .map(user -> {
-                    User userCopy = new User();
-                    userCopy.setId(user.getId());
-                    userCopy.setUsername(user.getUsername());
-                    userCopy.setDisplayName(user.getDisplayName());
-                    userCopy.setCreatedAt(user.getCreatedAt());
-                    userCopy.setIsPublic(user.getIsPublic());
-                    userCopy.setIsAdmin(user.getIsAdmin());
-                    return userCopy;
-                })
-                .collect(Collectors.toList());
+        int pageSize = Math.max(1, Math.min(limit, MAX_RECENT_USERS));
+        List<RecentUser> users = userRepository.findRecentUsers(PageRequest.of(Math.max(page, 0), pageSize));
 
         return ResponseEntity.ok(users);
     }
 
-    // Get all users with link counts
+    // Get users with link counts, keyset-paginated (sort=id|username, direction=asc|desc)
     @GetMapping("/users")
-    public ResponseEntity<?> getAllUsers(@AuthenticationPrincipal UserDetails userDetails) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getAllUsers(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) String cursor) {
+
         if (!isAdmin(userDetails.getUsername())) {
             return ResponseEntity.status(403).body("Access denied: Admin only");
         }
 
-        List<User> users = userRepository.findAll();
+        UserRepositoryCustom.SortKey sortKey;
+        try {
+            sortKey = UserRepositoryCustom.SortKey.valueOf(sort.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: sort must be 'id' or 'username'");
+        }
+        boolean descending = direction.equalsIgnoreCase("desc");
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // The cursor is the sort key of the last row of the previous page
+        Long afterId = null;
+        String afterUsername = null;
+        if (cursor != null) {
+            try {
+                String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                if (sortKey == UserRepositoryCustom.SortKey.ID) {
+                    afterId = Long.parseLong(key);
+                } else {
+                    afterUsername = key;
+                }
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body("Error: invalid cursor");
+            }
+        }
+
+        // Fetch one extra row to know whether there is a next page
+        List<AdminUserSummary> users = userRepository.findUserSummaries(
+                sortKey, descending, afterId, afterUsername, pageSize + 1);
 
-        List<Map<String, Object>> userList = users.stream()
-                .map(user -> {
-                    Map<String, Object> userData = new HashMap<>();
-                    userData.put("id", user.getId());
-                    userData.put("username", user.getUsername());
-                    userData.put("displayName", user.getDisplayName());
-                    userData.put("linkCount", user.getLinks() != null ? user.getLinks().size() : 0);
-                    userData.put("isAdmin", user.getIsAdmin());
-                    userData.put("isPublic", user.getIsPublic());
-                    userData.put("createdAt", user.getCreatedAt());
-                    return userData;
-                })
-                .collect(Collectors.toList());
+        String nextCursor = null;
+        if (users.size() > pageSize) {
+            users = users.subList(0, pageSize);
+            AdminUserSummary last = users.get(pageSize - 1);
+            String key = sortKey == UserRepositoryCustom.SortKey.ID ? last.id().toString() : last.username();
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+        }
 
-        return ResponseEntity.ok(userList);
+        return ResponseEntity.ok(new CursorPage<>(users, nextCursor));
     }
 
-    // Get user growth data (for charts)
+    // Get user growth data (for charts): days=window length, bucket=day|week|month
     @GetMapping("/growth")
-    public ResponseEntity<?> getUserGrowth(@AuthenticationPrincipal UserDetails userDetails) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getUserGrowth(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "day") String bucket) {
+
+        if (!isAdmin(userDetails.getUsername())) {
+            return ResponseEntity.status(403).body("Access denied: Admin only");
+        }
+
+        UserGrowthService.Bucket growthBucket;
+        try {
+            growthBucket = UserGrowthService.Bucket.valueOf(bucket.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: bucket must be 'day', 'week' or 'month'");
+        }
+        int window = Math.max(1, Math.min(days, MAX_GROWTH_DAYS));
+
+        return ResponseEntity.ok(userGrowthService.growth(window, growthBucket));
+    }
+
+    // Stream every user (with link counts) or every link as NDJSON, CSV or a JSON array, in id order.
+    // fromId/toId select an inclusive id range so an interrupted export can be resumed.
+    @GetMapping("/export")
+    public ResponseEntity<?> export(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "users") String dataset,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "1") long fromId,
+            @RequestParam(defaultValue = "" + Long.MAX_VALUE) long toId,
+            HttpServletResponse response) throws IOException {
         if (!isAdmin(userDetails.getUsername())) {
             return ResponseEntity.status(403).body("Access denied: Admin only");
         }
 
-        List<User> users = userRepository.findAll();
-
-        // Group users by registration date (last 30 days)
-        Map<LocalDate, Long> growthData = users.stream()
-                .filter(user -> user.getCreatedAt() != null)
-                .filter(user -> user.getCreatedAt().isAfter(LocalDateTime.now().minusDays(30)))
-                .collect(Collectors.groupingBy(
-                        user -> user.getCreatedAt().toLocalDate(),
-                        Collectors.counting()
-                ));
-
-        // Sort by date
-        List<Map<String, Object>> sortedGrowth = growthData.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .map(entry -> {
-                    Map<String, Object> data = new HashMap<>();
-                    data.put("date", entry.getKey().toString());
-                    data.put("count", entry.getValue());
-                    return data;
-                })
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(sortedGrowth);
+        AdminExportService.Dataset exportDataset;
+        try {
+            exportDataset = AdminExportService.Dataset.valueOf(dataset.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: dataset must be users or links");
+        }
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().body("Error: format must be ndjson, csv or json");
+        }
+        if (fromId > toId) {
+            return ResponseEntity.badRequest().body("Error: fromId must not be greater than toId");
+        }
+
+        if (!adminExportService.tryStart()) {
+            return ResponseEntity.status(429).header("Retry-After", "60")
+                    .body("Too many exports running, try again later");
+        }
+        try {
+            response.setContentType(exportFormat.contentType() + ";charset=UTF-8");
+            response.setHeader("Content-Disposition",
+                    "attachment; filename=\"" + dataset.toLowerCase() + "." + exportFormat.extension() + "\"");
+            adminExportService.export(exportDataset, exportFormat, fromId, toId, response.getOutputStream());
+        } finally {
+            adminExportService.finish();
+        }
+        return null;
     }
 
     // Toggle admin status for a user
     @PostMapping("/users/{userId}/toggle-admin")
+    @Transactional
     public ResponseEntity<?> toggleAdmin(
             @PathVariable Long userId,
             @AuthenticationPrincipal UserDetails userDetails) {
@@ -169,10 +279,43 @@ public class AdminController {
         user.setIsAdmin(!user.getIsAdmin());
         userRepository.save(user);
 
+        // Existing tokens and cached authorities carry the old isAdmin value; both are dropped
+        // after commit, so a login or cache miss in between cannot pick the old value up again
+        String username = user.getUsername();
+        AfterCommit.run(() -> tokenRevocationList.revokeAll(username));
+        userDetailsService.evict(username);
+
         return ResponseEntity.ok(Map.of(
                 "success", true,
                 "username", user.getUsername(),
                 "isAdmin", user.getIsAdmin()
         ));
     }
-}
\ No newline at end of file
+
+    // Cache statistics (hits, misses, evictions)
+    @GetMapping("/metrics")
+    public ResponseEntity<?> getMetrics(@AuthenticationPrincipal UserDetails userDetails) {
+        if (!isAdmin(userDetails.getUsername())) {
+            return ResponseEntity.status(403).body("Access denied: Admin only");
+        }
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("userDetailsCache", userDetailsService.cacheMetrics());
+        metrics.put("publicProfileCache", publicProfileService.cacheMetrics());
+        metrics.put("linkSearchIndexes", linkSearchService.cacheMetrics());
+        metrics.put("clickEvents", clickEventService.metrics());
+        metrics.put("clickRateLimiter", clickRateLimiter.metrics());
+        metrics.put("loginAttempts", loginAttemptLimiter.metrics());
+        metrics.put("passwordHashing", passwordHashingExecutor.metrics());
+        // Per pool: the limit sits on the Hikari pools, behind the lazy proxy and the replica router
+        Map<String, Object> dbConcurrency = ConcurrencyLimitedDataSource.metricsBehind(dataSource);
+        if (!dbConcurrency.isEmpty()) {
+            metrics.put("dbConcurrency", dbConcurrency);
+        }
+        if (replicaRouting != null) {
+            metrics.put("readReplica", replicaRouting.metrics());
+        }
+
+        return ResponseEntity.ok(metrics);
+    }
+}
@@ -5,7 +5,11 @@ import com.linknest.api.dto.LoginRequest;
 import com.linknest.api.dto.RegisterRequest;
 import com.linknest.api.repository.UserRepository;
 import com.linknest.api.security.JwtUtil;
+import com.linknest.api.security.LoginAttemptLimiter;
+import com.linknest.api.security.PasswordHashingExecutor;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -13,6 +17,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
@@ -29,6 +35,12 @@ public class AuthController {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
     @PostMapping("/register")
     public ResponseEntity<?> registerUser(@RequestBody RegisterRequest registerRequest) {
         if (userRepository.findByUsername(registerRequest.getUsername()).isPresent()) {
@@ -37,7 +49,11 @@ public class AuthController {
 
         User user = new User();
         user.setUsername(registerRequest.getUsername());
-        user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
+        try {
+            user.setPassword(passwordHashingExecutor.run(() -> passwordEncoder.encode(registerRequest.getPassword())));
+        } catch (RejectedExecutionException e) {
+            return serverBusy();
+        }
         user.setIsAdmin(false); // Default to non-admin
 
         userRepository.save(user);
@@ -46,10 +62,28 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> authenticateUser(@RequestBody LoginRequest loginRequest) {
-        // Authenticate the user
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
+    public ResponseEntity<?> authenticateUser(@RequestBody LoginRequest loginRequest, HttpServletRequest request) {
+        String clientIp = request.getRemoteAddr();
+
+        // Too many recent failures for this username from this IP, for this username overall, or
+        // from this IP overall: reject before any password hashing. Otherwise one attempt is reserved
+        if (!loginAttemptLimiter.tryAcquire(loginRequest.getUsername(), clientIp)) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header("Retry-After", String.valueOf(loginAttemptLimiter.retryAfterSeconds()))
+                    .body("Error: Too many failed login attempts, try again later");
+        }
+
+        // Authenticate the user; the BCrypt check runs on the bounded hashing pool. A wrong password
+        // throws here, and the reserved attempt stays counted as the failure
+        Authentication authentication;
+        try {
+            authentication = passwordHashingExecutor.run(() -> authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword())));
+        } catch (RejectedExecutionException e) {
+            loginAttemptLimiter.release(loginRequest.getUsername(), clientIp);
+            return serverBusy();
+        }
+        loginAttemptLimiter.recordSuccess(loginRequest.getUsername(), clientIp);
 
         // If authentication is successful, get the username
         String username = authentication.getName();
@@ -64,4 +98,10 @@ public class AuthController {
         // Return the JWT in the response
         return ResponseEntity.ok(java.util.Collections.singletonMap("token", jwt));
     }
+
+    private static ResponseEntity<?> serverBusy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body("Error: Server is busy, try again shortly");
+    }
 }
\ No newline at end of file
@@ -1,43 +1,130 @@
 package com.linknest.api.controller;
 
+import com.linknest.api.dto.CategoryClicks;
+import com.linknest.api.dto.ClickTimeseriesResponse;
+import com.linknest.api.dto.LinkBatchRequest;
+import com.linknest.api.dto.LinkBatchResult;
+import com.linknest.api.dto.LinkAnalyticsResponse;
+import com.linknest.api.dto.LinkReorderRequest;
+import com.linknest.api.dto.LinkResponse;
+import com.linknest.api.dto.PublicProfileView;
+import com.linknest.api.dto.TopLink;
+import com.linknest.api.dto.VisitorTimeseriesResponse;
 import com.linknest.api.model.Link;
 import com.linknest.api.model.User;
 import com.linknest.api.repository.LinkRepository;
 import com.linknest.api.repository.UserRepository;
+import com.linknest.api.service.ClickCounterService;
+import com.linknest.api.service.ClickEventService;
+import com.linknest.api.service.ClickRateLimiter;
+import com.linknest.api.service.ClickRollupService;
+import com.linknest.api.service.ExportFormat;
+import com.linknest.api.service.LinkBulkService;
+import com.linknest.api.service.LinkExportService;
+import com.linknest.api.service.LinkOrderService;
+import com.linknest.api.service.LinkSearchService;
+import com.linknest.api.service.HyperLogLog;
+import com.linknest.api.service.PublicProfileService;
+import com.linknest.api.service.UniqueVisitorService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.time.LocalDateTime;
+import java.io.IOException;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/links")
 public class LinkController {
 
+    private static final int MAX_HOURLY_PERIODS = 24 * 31;
+    private static final int MAX_DAILY_PERIODS = 366;
+    private static final int MAX_WEEKLY_PERIODS = 53;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+
     @Autowired
     private LinkRepository linkRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ClickCounterService clickCounterService;
+
+    @Autowired
+    private ClickEventService clickEventService;
+
+    @Autowired
+    private ClickRateLimiter clickRateLimiter;
+
+    @Autowired
+    private ClickRollupService clickRollupService;
+
+    @Autowired
+    private UniqueVisitorService uniqueVisitorService;
+
+    @Autowired
+    private PublicProfileService publicProfileService;
+
+    @Autowired
+    private LinkBulkService linkBulkService;
+
+    @Autowired
+    private LinkExportService linkExportService;
+
+    @Autowired
+    private LinkOrderService linkOrderService;
+
+    @Autowired
+    private LinkSearchService linkSearchService;
+
+    // How long browsers and CDNs may reuse a public response before revalidating
+    @Value("${public-profile.max-age-seconds:30}")
+    private long publicMaxAgeSeconds;
+
+    // Request header carrying the visitor's country code (set by the CDN); blank to ignore
+    @Value("${clicks.country-header:}")
+    private String countryHeader;
+
     // Get all links for the currently logged-in user
     @GetMapping
-    public ResponseEntity<List<Link>> getLinksForUser(@AuthenticationPrincipal UserDetails userDetails) {
-        User user = userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        List<Link> links = linkRepository.findByUser(user);
+    public ResponseEntity<List<LinkResponse>> getLinksForUser(@AuthenticationPrincipal UserDetails userDetails) {
+        List<LinkResponse> links = linkRepository.findResponsesByUsername(userDetails.getUsername());
         return ResponseEntity.ok(links);
     }
 
-    // Create a new link for the currently logged-in user
+    // Search the current user's links by title, domain and category; every word of q must
+    // match the start of a word in the link. Results are in display order
+    @GetMapping("/search")
+    public ResponseEntity<?> searchLinks(@RequestParam String q,
+                                         @RequestParam(defaultValue = "0") int page,
+                                         @RequestParam(defaultValue = "20") int size,
+                                         @AuthenticationPrincipal UserDetails userDetails) {
+        if (q.isBlank() || q.length() > MAX_SEARCH_QUERY_LENGTH) {
+            return ResponseEntity.badRequest().body("Error: q must be 1 to " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        return ResponseEntity.ok(linkSearchService.search(userDetails.getUsername(), q, Math.max(page, 0), pageSize));
+    }
+
+    // Create a new link for the currently logged-in user (one transaction: the append position
+    // is picked under a lock on the user that must be held until the link is inserted)
     @PostMapping
-    public ResponseEntity<Link> createLink(@RequestBody Link newLinkRequest, @AuthenticationPrincipal UserDetails userDetails) {
+    @Transactional
+    public ResponseEntity<LinkResponse> createLink(@RequestBody Link newLinkRequest, @AuthenticationPrincipal UserDetails userDetails) {
         User user = userRepository.findByUsername(userDetails.getUsername())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
@@ -46,13 +133,20 @@ public class LinkController {
         linkToSave.setUrl(newLinkRequest.getUrl());
         linkToSave.setCategory(newLinkRequest.getCategory() != null ? newLinkRequest.getCategory() : "Other");
         linkToSave.setUser(user);
+        linkToSave.setPosition(linkOrderService.nextPosition(user));
 
         Link savedLink = linkRepository.save(linkToSave);
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedLink);
+        publicProfileService.contentChanged(user.getUsername());
+        LinkResponse response = LinkResponse.from(savedLink);
+        linkSearchService.linkSaved(user.getUsername(), response);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     // Update an existing link
+    // Load and save in one read-write transaction: a copy read from a lagging replica
+    // would write stale values (e.g. clickCount) back to the primary
     @PutMapping("/{id}")
+    @Transactional
     public ResponseEntity<?> updateLink(@PathVariable Long id, @RequestBody Link updatedLinkRequest, @AuthenticationPrincipal UserDetails userDetails) {
         Link existingLink = linkRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Link not found with id: " + id));
@@ -68,11 +162,15 @@ public class LinkController {
         }
 
         linkRepository.save(existingLink);
-        return ResponseEntity.ok(existingLink);
+        publicProfileService.contentChanged(userDetails.getUsername());
+        LinkResponse response = LinkResponse.from(existingLink);
+        linkSearchService.linkSaved(userDetails.getUsername(), response);
+        return ResponseEntity.ok(response);
     }
 
     // Delete a link
     @DeleteMapping("/{id}")
+    @Transactional
     public ResponseEntity<?> deleteLink(@PathVariable Long id, @AuthenticationPrincipal UserDetails userDetails) {
         Link linkToDelete = linkRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Link not found with id: " + id));
@@ -82,79 +180,205 @@ public class LinkController {
         }
 
         linkRepository.delete(linkToDelete);
+        publicProfileService.contentChanged(userDetails.getUsername());
+        linkSearchService.linkDeleted(userDetails.getUsername(), id);
         return ResponseEntity.ok("Link deleted successfully.");
     }
 
+    // Move one link right after another (afterId null = to the top); writes only the moved row
+    @PatchMapping("/reorder")
+    @Transactional
+    public ResponseEntity<?> reorderLink(@RequestBody LinkReorderRequest reorderRequest, @AuthenticationPrincipal UserDetails userDetails) {
+        if (reorderRequest.getLinkId() == null || reorderRequest.getLinkId().equals(reorderRequest.getAfterId())) {
+            return ResponseEntity.badRequest().body("Error: linkId is required and must differ from afterId");
+        }
+
+        Link link = linkRepository.findById(reorderRequest.getLinkId())
+                .orElseThrow(() -> new RuntimeException("Link not found with id: " + reorderRequest.getLinkId()));
+        Link after = null;
+        if (reorderRequest.getAfterId() != null) {
+            after = linkRepository.findById(reorderRequest.getAfterId())
+                    .orElseThrow(() -> new RuntimeException("Link not found with id: " + reorderRequest.getAfterId()));
+        }
+
+        String username = userDetails.getUsername();
+        if (!link.getUser().getUsername().equals(username)
+                || (after != null && !after.getUser().getUsername().equals(username))) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Error: You don't have permission to reorder this link.");
+        }
+
+        long position = linkOrderService.moveAfter(link, after);
+        publicProfileService.contentChanged(username);
+        linkSearchService.invalidate(username);
+        return ResponseEntity.ok(Map.of("success", true, "id", link.getId(), "position", position));
+    }
+
+    // Create, update and delete many links in one request (applied all or nothing)
+    @PostMapping("/batch")
+    public ResponseEntity<LinkBatchResult> batchLinks(@RequestBody LinkBatchRequest batchRequest, @AuthenticationPrincipal UserDetails userDetails) {
+        LinkBatchResult result = linkBulkService.applyBatch(userDetails.getUsername(), batchRequest);
+        publicProfileService.contentChanged(userDetails.getUsername());
+        linkSearchService.invalidate(userDetails.getUsername());
+        return ResponseEntity.ok(result);
+    }
+
+    // Import links from an NDJSON or CSV request body, streamed line by line
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<?> importLinks(HttpServletRequest request, @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+        LinkBulkService.ImportFormat format = request.getContentType().startsWith("text/csv")
+                ? LinkBulkService.ImportFormat.CSV
+                : LinkBulkService.ImportFormat.NDJSON;
+
+        int imported = linkBulkService.importLinks(userDetails.getUsername(), request.getReader(), format);
+        publicProfileService.contentChanged(userDetails.getUsername());
+        linkSearchService.invalidate(userDetails.getUsername());
+        return ResponseEntity.ok(Map.of("imported", imported));
+    }
+
+    // Export all links with their click analytics as a JSON array, NDJSON or CSV,
+    // written to the response as rows are read
+    @GetMapping("/export")
+    public ResponseEntity<?> exportLinks(@RequestParam(defaultValue = "json") String format,
+                                         @AuthenticationPrincipal UserDetails userDetails,
+                                         HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().body("Format must be json, ndjson or csv");
+        }
+
+        response.setContentType(exportFormat.contentType() + ";charset=UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=\"links." + exportFormat.extension() + "\"");
+        linkExportService.exportLinks(userDetails.getUsername(), exportFormat, response.getOutputStream());
+        return null;
+    }
+
+    // Clicks per hour (last `periods` hours, default a week) or per day (default 30 days) for one link
+    @GetMapping("/{id}/analytics/timeseries")
+    public ResponseEntity<?> getClickTimeseries(@PathVariable Long id,
+                                                @RequestParam(defaultValue = "hour") String granularity,
+                                                @RequestParam(required = false) Integer periods,
+                                                @AuthenticationPrincipal UserDetails userDetails) {
+        Link link = linkRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Link not found with id: " + id));
+        if (!link.getUser().getUsername().equals(userDetails.getUsername())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Error: You don't have permission to view this link.");
+        }
+
+        ClickRollupService.Granularity bucket;
+        try {
+            bucket = ClickRollupService.Granularity.valueOf(granularity.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: granularity must be hour or day");
+        }
+        int maxPeriods = bucket == ClickRollupService.Granularity.HOUR ? MAX_HOURLY_PERIODS : MAX_DAILY_PERIODS;
+        int count = periods != null ? periods : (bucket == ClickRollupService.Granularity.HOUR ? 24 * 7 : 30);
+        if (count < 1 || count > maxPeriods) {
+            return ResponseEntity.badRequest().body("Error: periods must be between 1 and " + maxPeriods);
+        }
+
+        return ResponseEntity.ok(new ClickTimeseriesResponse(id, bucket.name().toLowerCase(),
+                clickRollupService.timeseries(id, bucket, count)));
+    }
+
+    // Estimated unique visitors per day (default last 30 days) or per week (default last 8 weeks)
+    @GetMapping("/{id}/analytics/unique-visitors")
+    public ResponseEntity<?> getUniqueVisitors(@PathVariable Long id,
+                                               @RequestParam(defaultValue = "day") String granularity,
+                                               @RequestParam(required = false) Integer periods,
+                                               @AuthenticationPrincipal UserDetails userDetails) {
+        Link link = linkRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Link not found with id: " + id));
+        if (!link.getUser().getUsername().equals(userDetails.getUsername())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Error: You don't have permission to view this link.");
+        }
+
+        UniqueVisitorService.Granularity bucket;
+        try {
+            bucket = UniqueVisitorService.Granularity.valueOf(granularity.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: granularity must be day or week");
+        }
+        int maxPeriods = bucket == UniqueVisitorService.Granularity.DAY ? MAX_DAILY_PERIODS : MAX_WEEKLY_PERIODS;
+        int count = periods != null ? periods : (bucket == UniqueVisitorService.Granularity.DAY ? 30 : 8);
+        if (count < 1 || count > maxPeriods) {
+            return ResponseEntity.badRequest().body("Error: periods must be between 1 and " + maxPeriods);
+        }
+
+        return ResponseEntity.ok(new VisitorTimeseriesResponse(id, bucket.name().toLowerCase(),
+                HyperLogLog.RELATIVE_ERROR, uniqueVisitorService.series(id, bucket, count)));
+    }
+
     // Track link click (for analytics)
     @PostMapping("/{id}/click")
-    public ResponseEntity<?> trackClick(@PathVariable Long id) {
-        Link link = linkRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Link not found"));
+    public ResponseEntity<?> trackClick(@PathVariable Long id, HttpServletRequest request) {
+        // Repeated clicks from one client on one link are rejected before any database access
+        if (!clickRateLimiter.tryAcquire(request.getRemoteAddr(), id)) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header("Retry-After", String.valueOf(clickRateLimiter.retryAfterSeconds()))
+                    .body(Map.of("success", false, "error", "Too many clicks, slow down"));
+        }
 
-        link.setClickCount(link.getClickCount() + 1);
-        link.setLastClicked(LocalDateTime.now());
-        linkRepository.save(link);
+        // Counted in memory and flushed in batches by ClickCounterService
+        long clickCount = clickCounterService.recordClick(id);
+        // Queued for the click event log; never blocks the request
+        clickEventService.record(id, request.getHeader("Referer"),
+                countryHeader.isBlank() ? null : request.getHeader(countryHeader));
+        uniqueVisitorService.recordVisit(id, request.getRemoteAddr(), request.getHeader("User-Agent"));
 
-        return ResponseEntity.ok(Map.of("success", true, "clickCount", link.getClickCount()));
+        return ResponseEntity.ok(Map.of("success", true, "clickCount", clickCount));
     }
 
-    // Get analytics for user's links
+    // Get analytics for user's links (read-only, so served by the replica when one is configured)
     @GetMapping("/analytics")
+    @Transactional(readOnly = true)
     public ResponseEntity<?> getLinkAnalytics(@AuthenticationPrincipal UserDetails userDetails) {
-        User user = userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        List<Link> links = linkRepository.findByUser(user);
+        String username = userDetails.getUsername();
 
-        // Calculate total clicks
-        long totalClicks = links.stream()
-                .mapToLong(link -> link.getClickCount() != null ? link.getClickCount() : 0)
-                .sum();
+        // Every figure is an aggregate query; no Link entities are loaded
+        long totalLinks = linkRepository.countByUserUsername(username);
+        long totalClicks = linkRepository.sumClickCountByUsername(username);
 
         // Get top 5 most clicked links
-        List<Map<String, Object>> topLinks = links.stream()
-                .sorted((a, b) -> Long.compare(
-                        b.getClickCount() != null ? b.getClickCount() : 0,
-                        a.getClickCount() != null ? a.getClickCount() : 0))
-                .limit(5)
-                .map(link -> {
-                    Map<String, Object> linkData = new HashMap<>();
-                    linkData.put("id", link.getId());
-                    linkData.put("title", link.getTitle());
-                    linkData.put("clickCount", link.getClickCount());
-                    linkData.put("lastClicked", link.getLastClicked());
-                    return linkData;
-                })
-                .collect(Collectors.toList());
+        List<TopLink> topLinks = linkRepository.findTopLinksByUsername(username, PageRequest.of(0, 5));
 
         // Group by category
-        Map<String, Long> clicksByCategory = links.stream()
-                .collect(Collectors.groupingBy(
-                        link -> link.getCategory() != null ? link.getCategory() : "Other",
-                        Collectors.summingLong(link -> link.getClickCount() != null ? link.getClickCount() : 0)
-                ));
-
-        Map<String, Object> analytics = new HashMap<>();
-        analytics.put("totalLinks", links.size());
-        analytics.put("totalClicks", totalClicks);
-        analytics.put("topLinks", topLinks);
-        analytics.put("clicksByCategory", clicksByCategory);
+        Map<String, Long> clicksByCategory = new HashMap<>();
+        for (CategoryClicks row : linkRepository.sumClicksByCategory(username)) {
+            clicksByCategory.put(row.category(), row.clicks());
+        }
+
+        LinkAnalyticsResponse analytics = new LinkAnalyticsResponse(
+                totalLinks, totalClicks, topLinks, clicksByCategory, uniqueVisitorService.summarize(username));
 
         return ResponseEntity.ok(analytics);
     }
 
     // Get all links for a specific user, publicly
     @GetMapping("/public/{username}")
-    public ResponseEntity<?> getPublicLinksForUser(@PathVariable String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found with username: " + username));
+    public ResponseEntity<?> getPublicLinksForUser(@PathVariable String username, WebRequest request) {
+        // Served from the public profile cache; hits do not touch the database. Conditional requests
+        // are checked against the cached view too, as the ETag depends on the click counts it holds
+        PublicProfileView view = publicProfileService.getPublicProfile(username);
 
         // Check if profile is public
-        if (!user.getIsPublic()) {
+        if (!view.isPublic()) {
             return ResponseEntity.status(403).body("This profile is private");
         }
 
-        List<Link> links = linkRepository.findByUser(user);
-        return ResponseEntity.ok(links);
+        if (request.checkNotModified(publicEtag(view))) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(publicEtag(view))
+                .cacheControl(CacheControl.maxAge(publicMaxAgeSeconds, TimeUnit.SECONDS).cachePublic())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(view.linksJson());
+    }
+
+    // Links are unchanged only while the link set (version) and every click count are: counts never
+    // go down without a version bump, so an equal total means equal counts
+    private static String publicEtag(PublicProfileView view) {
+        return "links-" + view.version() + "-" + view.clicks();
     }
 }
\ No newline at end of file
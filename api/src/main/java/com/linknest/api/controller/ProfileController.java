@@ -1,15 +1,24 @@
 package com.linknest.api.controller;
 
+import com.linknest.api.dto.PublicProfileView;
 import com.linknest.api.model.User;
 import com.linknest.api.repository.UserRepository;
+import com.linknest.api.service.PublicProfileService;
+import com.linknest.api.service.UserDetailsServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/profile")
@@ -18,6 +27,16 @@ public class ProfileController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private PublicProfileService publicProfileService;
+
+    // How long browsers and CDNs may reuse a public response before revalidating
+    @Value("${public-profile.max-age-seconds:30}")
+    private long publicMaxAgeSeconds;
+
     // Get current user's profile
     @GetMapping
     public ResponseEntity<?> getCurrentProfile(@AuthenticationPrincipal UserDetails userDetails) {
@@ -37,8 +56,9 @@ public class ProfileController {
         return ResponseEntity.ok(profile);
     }
 
-    // Update profile
+    // Update profile (one transaction, so the user row is read from the primary)
     @PutMapping
+    @Transactional
     public ResponseEntity<?> updateProfile(
             @RequestBody Map<String, Object> updates,
             @AuthenticationPrincipal UserDetails userDetails) {
@@ -67,29 +87,38 @@ public class ProfileController {
         }
 
         userRepository.save(user);
+        userDetailsService.evict(user.getUsername());
+        publicProfileService.contentChanged(user.getUsername());
 
         return ResponseEntity.ok("Profile updated successfully");
     }
 
     // Get public profile (anyone can access)
     @GetMapping("/public/{username}")
-    public ResponseEntity<?> getPublicProfile(@PathVariable String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public ResponseEntity<?> getPublicProfile(@PathVariable String username, WebRequest request) {
+        // Answer conditional requests from the content version alone, without loading any entities.
+        // The profile payload has no click counts, so the version covers all of it
+        Long version = publicProfileService.currentVersion(username);
+        if (version != null && request.checkNotModified(publicEtag(version))) {
+            return null;
+        }
+
+        // Served from the public profile cache; hits do not touch the database
+        PublicProfileView view = publicProfileService.getPublicProfile(username);
 
         // Check if profile is public
-        if (!user.getIsPublic()) {
+        if (!view.isPublic()) {
             return ResponseEntity.status(403).body("This profile is private");
         }
 
-        Map<String, Object> profile = new HashMap<>();
-        profile.put("username", user.getUsername());
-        profile.put("displayName", user.getDisplayName());
-        profile.put("bio", user.getBio());
-        profile.put("avatarUrl", user.getAvatarUrl());
-        profile.put("theme", user.getTheme());
-        profile.put("linkCount", user.getLinks() != null ? user.getLinks().size() : 0);
+        return ResponseEntity.ok()
+                .eTag(publicEtag(view.version()))
+                .cacheControl(CacheControl.maxAge(publicMaxAgeSeconds, TimeUnit.SECONDS).cachePublic())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(view.profileJson());
+    }
 
-        return ResponseEntity.ok(profile);
+    private static String publicEtag(long version) {
+        return "profile-" + version;
     }
 }
\ No newline at end of file
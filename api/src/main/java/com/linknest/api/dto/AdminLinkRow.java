@@ -0,0 +1,16 @@
+package com.linknest.api.dto;
+
+import java.time.LocalDateTime;
+
+// One link of the admin export, with its owner
+public record AdminLinkRow(
+        Long id,
+        Long userId,
+        String username,
+        String title,
+        String url,
+        String category,
+        Long clickCount,
+        LocalDateTime lastClicked,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,14 @@
+package com.linknest.api.dto;
+
+import java.time.LocalDateTime;
+
+// One row of the admin user listing, filled directly by a JPQL constructor expression
+public record AdminUserSummary(
+        Long id,
+        String username,
+        String displayName,
+        Boolean isAdmin,
+        Boolean isPublic,
+        LocalDateTime createdAt,
+        Long linkCount) {
+}
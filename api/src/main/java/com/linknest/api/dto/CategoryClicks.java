@@ -0,0 +1,5 @@
+package com.linknest.api.dto;
+
+// Total clicks of a user's links in one category
+public record CategoryClicks(String category, Long clicks) {
+}
@@ -0,0 +1,7 @@
+package com.linknest.api.dto;
+
+import java.time.LocalDateTime;
+
+// Clicks in one hourly or daily bucket of a link's time series
+public record ClickBucket(LocalDateTime bucketStart, Long clicks) {
+}
@@ -0,0 +1,7 @@
+package com.linknest.api.dto;
+
+import java.util.List;
+
+// Response of GET /api/links/{id}/analytics/timeseries
+public record ClickTimeseriesResponse(Long linkId, String granularity, List<ClickBucket> buckets) {
+}
@@ -0,0 +1,7 @@
+package com.linknest.api.dto;
+
+import java.util.List;
+
+// A page of keyset-paginated results; nextCursor is null on the last page
+public record CursorPage<T>(List<T> items, String nextCursor) {
+}
@@ -0,0 +1,7 @@
+package com.linknest.api.dto;
+
+import java.time.LocalDate;
+
+// Row of a per-day aggregate query
+public record DailyCount(LocalDate day, Long count) {
+}
@@ -0,0 +1,13 @@
+package com.linknest.api.dto;
+
+import java.util.List;
+import java.util.Map;
+
+// Body of GET /api/links/analytics
+public record LinkAnalyticsResponse(
+        long totalLinks,
+        long totalClicks,
+        List<TopLink> topLinks,
+        Map<String, Long> clicksByCategory,
+        UniqueVisitorSummary uniqueVisitors) {
+}
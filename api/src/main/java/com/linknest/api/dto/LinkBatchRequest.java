@@ -0,0 +1,26 @@
+package com.linknest.api.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class LinkBatchRequest {
+    private List<LinkInput> creates = new ArrayList<>();
+    private List<LinkInput> updates = new ArrayList<>();
+    private List<Long> deletes = new ArrayList<>();
+
+    // A list sent as null means nothing of that kind, like a list left out
+    public void setCreates(List<LinkInput> creates) {
+        this.creates = creates != null ? creates : new ArrayList<>();
+    }
+
+    public void setUpdates(List<LinkInput> updates) {
+        this.updates = updates != null ? updates : new ArrayList<>();
+    }
+
+    public void setDeletes(List<Long> deletes) {
+        this.deletes = deletes != null ? deletes : new ArrayList<>();
+    }
+}
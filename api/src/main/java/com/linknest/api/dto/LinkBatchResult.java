@@ -0,0 +1,7 @@
+package com.linknest.api.dto;
+
+import java.util.List;
+
+// Outcome of POST /api/links/batch; created links are returned so clients learn their ids
+public record LinkBatchResult(List<LinkResponse> created, int updated, int deleted) {
+}
@@ -0,0 +1,12 @@
+package com.linknest.api.dto;
+
+import lombok.Data;
+
+// One link in a batch request or import; id is only used for updates
+@Data
+public class LinkInput {
+    private Long id;
+    private String title;
+    private String url;
+    private String category;
+}
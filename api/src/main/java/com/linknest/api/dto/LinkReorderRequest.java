@@ -0,0 +1,10 @@
+package com.linknest.api.dto;
+
+import lombok.Data;
+
+// Body of PATCH /api/links/reorder: move linkId right after afterId (null moves it to the top)
+@Data
+public class LinkReorderRequest {
+    private Long linkId;
+    private Long afterId;
+}
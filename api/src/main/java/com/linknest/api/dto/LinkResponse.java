@@ -0,0 +1,33 @@
+package com.linknest.api.dto;
+
+import com.linknest.api.model.Link;
+import com.linknest.api.model.LinkUrls;
+
+import java.time.LocalDateTime;
+
+// Read model of a link, same JSON shape as the Link entity but without any JPA plumbing
+public record LinkResponse(
+        Long id,
+        String title,
+        String url,
+        String category,
+        Long clickCount,
+        LocalDateTime lastClicked,
+        LocalDateTime createdAt,
+        String displayDomain,
+        String faviconUrl) {
+
+    public LinkResponse {
+        // Rows not yet backfilled by LinkMetadataBackfill
+        if (displayDomain == null) {
+            displayDomain = LinkUrls.displayDomain(url);
+            faviconUrl = LinkUrls.faviconUrl(url, displayDomain);
+        }
+    }
+
+    public static LinkResponse from(Link link) {
+        return new LinkResponse(link.getId(), link.getTitle(), link.getUrl(), link.getCategory(),
+                link.getClickCount(), link.getLastClicked(), link.getCreatedAt(),
+                link.getDisplayDomain(), link.getFaviconUrl());
+    }
+}
@@ -0,0 +1,7 @@
+package com.linknest.api.dto;
+
+import java.util.List;
+
+// Body of GET /api/links/search: one page of matches in display order, and how many matched in total
+public record LinkSearchResult(List<LinkResponse> links, int page, int size, int total) {
+}
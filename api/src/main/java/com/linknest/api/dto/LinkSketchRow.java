@@ -0,0 +1,5 @@
+package com.linknest.api.dto;
+
+// A link's all-time visitor sketch with the fields analytics groups it by
+public record LinkSketchRow(Long linkId, String category, byte[] sketch) {
+}
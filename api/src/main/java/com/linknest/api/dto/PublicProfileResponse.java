@@ -0,0 +1,11 @@
+package com.linknest.api.dto;
+
+// Body of GET /api/profile/public/{username}
+public record PublicProfileResponse(
+        String username,
+        String displayName,
+        String bio,
+        String avatarUrl,
+        String theme,
+        int linkCount) {
+}
@@ -0,0 +1,7 @@
+package com.linknest.api.dto;
+
+// What visitors see for a username, already serialized to JSON (empty when private).
+// version is the user's content version the payload was built from, used in the ETags;
+// clicks is the total click count in linksJson, which the link list ETag adds to it.
+public record PublicProfileView(boolean isPublic, long version, long clicks, byte[] profileJson, byte[] linksJson) {
+}
@@ -0,0 +1,13 @@
+package com.linknest.api.dto;
+
+import java.time.LocalDateTime;
+
+// Lightweight view of a recently registered user for the admin dashboard
+public record RecentUser(
+        Long id,
+        String username,
+        String displayName,
+        LocalDateTime createdAt,
+        Boolean isPublic,
+        Boolean isAdmin) {
+}
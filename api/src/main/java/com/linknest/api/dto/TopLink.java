@@ -0,0 +1,7 @@
+package com.linknest.api.dto;
+
+import java.time.LocalDateTime;
+
+// Entry of the "most clicked links" list in the analytics response
+public record TopLink(Long id, String title, Long clickCount, LocalDateTime lastClicked) {
+}
@@ -0,0 +1,11 @@
+package com.linknest.api.dto;
+
+import java.util.Map;
+
+// Estimated unique visitors (HyperLogLog); relativeError is the standard error of every figure
+public record UniqueVisitorSummary(
+        long total,
+        Map<Long, Long> byLink,
+        Map<String, Long> byCategory,
+        double relativeError) {
+}
@@ -0,0 +1,7 @@
+package com.linknest.api.dto;
+
+import java.time.LocalDate;
+
+// Estimated unique visitors of a link in one day or week (starting Monday)
+public record VisitorBucket(LocalDate start, long uniqueVisitors) {
+}
@@ -0,0 +1,8 @@
+package com.linknest.api.dto;
+
+import java.util.List;
+
+// Response of GET /api/links/{id}/analytics/unique-visitors
+public record VisitorTimeseriesResponse(Long linkId, String granularity, double relativeError,
+                                        List<VisitorBucket> buckets) {
+}
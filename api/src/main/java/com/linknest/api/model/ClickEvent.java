@@ -0,0 +1,37 @@
+package com.linknest.api.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+// Append-only click log. Rows are inserted in JDBC batches by ClickEventService and
+// rolled up into ClickRollupHourly / ClickRollupDaily; raw rows expire after a retention period.
+// link_id has no foreign key so inserts stay cheap and deleting a link never touches the log.
+@Entity
+@Table(name = "click_events", indexes = {
+        @Index(name = "idx_click_events_clicked_at", columnList = "clicked_at"),
+        @Index(name = "idx_click_events_link_clicked_at", columnList = "link_id, clicked_at")
+})
+@Data
+@NoArgsConstructor
+public class ClickEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "link_id", nullable = false)
+    private Long linkId;
+
+    @Column(name = "clicked_at", nullable = false)
+    private LocalDateTime clickedAt;
+
+    // Hash of the referring host, so referrers can be grouped without storing URLs
+    @Column(name = "referrer_hash")
+    private Integer referrerHash;
+
+    // ISO country code from the configured edge header, when present
+    @Column(name = "country", length = 2)
+    private String country;
+}
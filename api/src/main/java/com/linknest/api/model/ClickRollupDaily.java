@@ -0,0 +1,19 @@
+package com.linknest.api.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Clicks per link per day, maintained by ClickRollupService
+@Entity
+@Table(name = "click_rollups_daily")
+@Data
+@NoArgsConstructor
+public class ClickRollupDaily {
+
+    @EmbeddedId
+    private ClickRollupId id;
+
+    @Column(nullable = false)
+    private Long clicks;
+}
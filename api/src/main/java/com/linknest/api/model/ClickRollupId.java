@@ -0,0 +1,24 @@
+package com.linknest.api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+// Primary key of the click rollup tables: one row per link and time bucket
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClickRollupId implements Serializable {
+
+    @Column(name = "link_id")
+    private Long linkId;
+
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+}
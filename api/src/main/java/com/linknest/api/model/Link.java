@@ -5,7 +5,6 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import java.net.URI;
 import java.time.LocalDateTime;
 
 @Entity
@@ -14,8 +13,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class Link {
 
+    // Sequence ids (allocated 50 at a time) let Hibernate batch inserts; IDENTITY cannot
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "links_seq")
+    @SequenceGenerator(name = "links_seq", sequenceName = "links_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -38,6 +39,11 @@ public class Link {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // Display order within the user's links, spaced LinkOrderService.GAP apart; ties sort by id.
+    // Assigned by LinkOrderService when links are created through the API
+    @Column(nullable = false)
+    private Long position = 0L;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -48,35 +54,32 @@ public class Link {
     @JsonBackReference
     private User user;
 
-    // Extract domain name for display (e.g., "github.com" from "https://github.com/user")
-    @Transient
+    // Derived from url when it is set, so serialization only reads fields
+    @Column(name = "display_domain")
+    private String displayDomain;
+
+    @Column(name = "favicon_url", length = 512)
+    private String faviconUrl;
+
+    public void setUrl(String url) {
+        this.url = url;
+        refreshUrlMetadata();
+    }
+
+    // Recompute displayDomain and faviconUrl from the current url
+    public void refreshUrlMetadata() {
+        displayDomain = LinkUrls.displayDomain(url);
+        faviconUrl = LinkUrls.faviconUrl(url, displayDomain);
+    }
+
     @JsonProperty("displayDomain")
     public String getDisplayDomain() {
-        try {
-            URI uri = new URI(url);
-            String domain = uri.getHost();
-            if (domain != null) {
-                return domain.startsWith("www.") ? domain.substring(4) : domain;
-            }
-        } catch (Exception e) {
-            // If URL parsing fails, return domain from URL string
-            String cleaned = url.replaceAll("https?://(www\\.)?", "");
-            int slashIndex = cleaned.indexOf('/');
-            return slashIndex > 0 ? cleaned.substring(0, slashIndex) : cleaned;
-        }
-        return "Unknown";
+        // Rows written before these columns existed are filled in by LinkMetadataBackfill
+        return displayDomain != null ? displayDomain : LinkUrls.displayDomain(url);
     }
 
-    // Get favicon URL for the link
-    @Transient
     @JsonProperty("faviconUrl")
     public String getFaviconUrl() {
-        try {
-            URI uri = new URI(url);
-            String domain = uri.getScheme() + "://" + uri.getHost();
-            return domain + "/favicon.ico";
-        } catch (Exception e) {
-            return "https://www.google.com/s2/favicons?domain=" + getDisplayDomain();
-        }
+        return faviconUrl != null ? faviconUrl : LinkUrls.faviconUrl(url, getDisplayDomain());
     }
 }
@@ -0,0 +1,24 @@
+package com.linknest.api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// Primary key of per-link, per-day rows
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LinkDayId implements Serializable {
+
+    @Column(name = "link_id")
+    private Long linkId;
+
+    @Column(name = "visit_day")
+    private LocalDate day;
+}
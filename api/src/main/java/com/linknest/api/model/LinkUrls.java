@@ -0,0 +1,42 @@
+package com.linknest.api.model;
+
+import java.net.URI;
+import java.util.regex.Pattern;
+
+// Derives the display domain and favicon URL of a link once, when its URL is written
+public final class LinkUrls {
+
+    private static final Pattern SCHEME_AND_WWW = Pattern.compile("https?://(www\\.)?");
+
+    private LinkUrls() {
+    }
+
+    // Extract domain name for display (e.g., "github.com" from "https://github.com/user")
+    public static String displayDomain(String url) {
+        if (url == null) {
+            return "Unknown";
+        }
+        try {
+            String domain = new URI(url).getHost();
+            if (domain != null) {
+                return domain.startsWith("www.") ? domain.substring(4) : domain;
+            }
+        } catch (Exception e) {
+            // If URL parsing fails, return domain from URL string
+            String cleaned = SCHEME_AND_WWW.matcher(url).replaceAll("");
+            int slashIndex = cleaned.indexOf('/');
+            return slashIndex > 0 ? cleaned.substring(0, slashIndex) : cleaned;
+        }
+        return "Unknown";
+    }
+
+    // Get favicon URL for the link
+    public static String faviconUrl(String url, String displayDomain) {
+        try {
+            URI uri = new URI(url);
+            return uri.getScheme() + "://" + uri.getHost() + "/favicon.ico";
+        } catch (Exception e) {
+            return "https://www.google.com/s2/favicons?domain=" + displayDomain;
+        }
+    }
+}
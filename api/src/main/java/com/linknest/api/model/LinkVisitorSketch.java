@@ -0,0 +1,21 @@
+package com.linknest.api.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// All-time unique visitor sketch of a link (serialized HyperLogLog), kept out of the
+// links table so link reads never load it
+@Entity
+@Table(name = "link_visitor_sketches")
+@Data
+@NoArgsConstructor
+public class LinkVisitorSketch {
+
+    @Id
+    @Column(name = "link_id")
+    private Long linkId;
+
+    @Column(nullable = false, length = 1024)
+    private byte[] sketch;
+}
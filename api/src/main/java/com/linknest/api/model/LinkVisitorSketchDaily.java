@@ -0,0 +1,19 @@
+package com.linknest.api.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Unique visitor sketch of a link for one day; merged into weeks on read
+@Entity
+@Table(name = "link_visitor_sketches_daily")
+@Data
+@NoArgsConstructor
+public class LinkVisitorSketchDaily {
+
+    @EmbeddedId
+    private LinkDayId id;
+
+    @Column(nullable = false, length = 1024)
+    private byte[] sketch;
+}
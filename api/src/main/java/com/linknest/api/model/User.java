@@ -9,7 +9,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created_at", columnList = "created_at")
+})
 @Data
 @NoArgsConstructor
 public class User {
@@ -50,6 +52,11 @@ public class User {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // Bumped on every change to the public profile's fields or links (not on clicks); only written by
+    // UserRepository.incrementContentVersions so concurrent saves cannot roll it back
+    @Column(name = "content_version", insertable = false, updatable = false)
+    private Long contentVersion;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,21 @@
+package com.linknest.api.repository;
+
+import com.linknest.api.dto.ClickBucket;
+import com.linknest.api.model.ClickRollupDaily;
+import com.linknest.api.model.ClickRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ClickRollupDailyRepository extends JpaRepository<ClickRollupDaily, ClickRollupId> {
+
+    // Buckets of one link with from <= bucketStart < to, read by primary key range
+    @Query("select new com.linknest.api.dto.ClickBucket(r.id.bucketStart, r.clicks) from ClickRollupDaily r "
+            + "where r.id.linkId = :linkId and r.id.bucketStart >= :from and r.id.bucketStart < :to "
+            + "order by r.id.bucketStart")
+    List<ClickBucket> findBuckets(@Param("linkId") Long linkId,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
+}
@@ -1,11 +1,105 @@
 package com.linknest.api.repository;
 
+import com.linknest.api.dto.AdminLinkRow;
+import com.linknest.api.dto.CategoryClicks;
+import com.linknest.api.dto.LinkResponse;
+import com.linknest.api.dto.TopLink;
 import com.linknest.api.model.Link;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import com.linknest.api.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface LinkRepository extends JpaRepository<Link, Long> {
     // We'll add custom query methods here later
     List<Link> findByUser(User user);
+
+    // Neighbour lookups for a move or an append, skipping the link being moved. Called with a
+    // page size of 1 and read in index order, so the cost does not grow with the number of links.
+    // "After" compares (position, id) like the list order, so links sharing a position are not skipped
+    @Query("select l.position from Link l where l.user.id = :userId and l.id <> :excludeId "
+            + "and (l.position > :position or (l.position = :position and l.id > :afterId)) "
+            + "order by l.position, l.id")
+    List<Long> findPositionsAfter(@Param("userId") Long userId, @Param("position") long position,
+                                  @Param("afterId") long afterId, @Param("excludeId") long excludeId,
+                                  Pageable pageable);
+
+    @Query("select l.position from Link l where l.user.id = :userId and l.id <> :excludeId order by l.position, l.id")
+    List<Long> findFirstPositions(@Param("userId") Long userId, @Param("excludeId") long excludeId, Pageable pageable);
+
+    @Query("select l.position from Link l where l.user.id = :userId order by l.position desc, l.id desc")
+    List<Long> findLastPositions(@Param("userId") Long userId, Pageable pageable);
+
+    // Current position straight from the table, read by a move once it holds the user's lock
+    @Query("select l.position from Link l where l.id = :id")
+    Optional<Long> findPositionById(@Param("id") Long id);
+
+    // Ids in display order, for renumbering when two neighbours have no gap left
+    @Query("select l.id from Link l where l.user.id = :userId order by l.position, l.id")
+    List<Long> findIdsInOrder(@Param("userId") Long userId);
+
+    // Writes only the position column, so a move never rewrites counters or other fields
+    @Modifying
+    @Query("update Link l set l.position = :position where l.id = :id")
+    int updatePosition(@Param("id") Long id, @Param("position") long position);
+
+    // Read model of a user's links, built by the query itself so no entities enter the persistence context
+    @Query("select new com.linknest.api.dto.LinkResponse(l.id, l.title, l.url, l.category, l.clickCount, "
+            + "l.lastClicked, l.createdAt, l.displayDomain, l.faviconUrl) "
+            + "from Link l where l.user.username = :username order by l.position, l.id")
+    List<LinkResponse> findResponsesByUsername(@Param("username") String username);
+
+    // Read model of the given links, for a page of search results (order is up to the caller)
+    @Query("select new com.linknest.api.dto.LinkResponse(l.id, l.title, l.url, l.category, l.clickCount, "
+            + "l.lastClicked, l.createdAt, l.displayDomain, l.faviconUrl) "
+            + "from Link l where l.id in :ids")
+    List<LinkResponse> findResponsesByIds(@Param("ids") Collection<Long> ids);
+
+    // Same rows as findResponsesByUsername, read through a cursor for exports.
+    // Must be consumed inside a transaction and closed.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.linknest.api.dto.LinkResponse(l.id, l.title, l.url, l.category, l.clickCount, "
+            + "l.lastClicked, l.createdAt, l.displayDomain, l.faviconUrl) "
+            + "from Link l where l.user.username = :username order by l.position, l.id")
+    Stream<LinkResponse> streamResponsesByUsername(@Param("username") String username);
+
+    // All links in an id range with their owners, read through a cursor for the admin export
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.linknest.api.dto.AdminLinkRow(l.id, u.id, u.username, l.title, l.url, l.category, "
+            + "l.clickCount, l.lastClicked, l.createdAt) "
+            + "from Link l join l.user u where l.id between :fromId and :toId order by l.id")
+    Stream<AdminLinkRow> streamAdminRows(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // Reads only the counter column, used by the click endpoint instead of loading the whole row
+    @Query("select coalesce(l.clickCount, 0) from Link l where l.id = :id")
+    Optional<Long> findClickCountById(@Param("id") Long id);
+
+    // Number of users owning at least one link
+    @Query("select count(distinct l.user.id) from Link l")
+    long countDistinctUsers();
+
+    // Per-user analytics, aggregated in the database instead of over a loaded List<Link>.
+    // Written out because the derived count left-joins users and reads every link
+    @Query("select count(l) from Link l where l.user.username = :username")
+    long countByUserUsername(@Param("username") String username);
+
+    @Query("select coalesce(sum(l.clickCount), 0) from Link l where l.user.username = :username")
+    long sumClickCountByUsername(@Param("username") String username);
+
+    @Query("select new com.linknest.api.dto.TopLink(l.id, l.title, l.clickCount, l.lastClicked) "
+            + "from Link l where l.user.username = :username order by l.clickCount desc nulls last, l.id")
+    List<TopLink> findTopLinksByUsername(@Param("username") String username, Pageable pageable);
+
+    @Query("select new com.linknest.api.dto.CategoryClicks(coalesce(l.category, 'Other'), coalesce(sum(l.clickCount), 0)) "
+            + "from Link l where l.user.username = :username group by coalesce(l.category, 'Other')")
+    List<CategoryClicks> sumClicksByCategory(@Param("username") String username);
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.linknest.api.repository;
+
+import com.linknest.api.model.LinkDayId;
+import com.linknest.api.model.LinkVisitorSketchDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface LinkVisitorSketchDailyRepository extends JpaRepository<LinkVisitorSketchDaily, LinkDayId> {
+
+    @Query("select s from LinkVisitorSketchDaily s where s.id.linkId = :linkId "
+            + "and s.id.day >= :from and s.id.day <= :to")
+    List<LinkVisitorSketchDaily> findByLinkAndDays(@Param("linkId") Long linkId,
+                                                   @Param("from") LocalDate from,
+                                                   @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("delete from LinkVisitorSketchDaily s where s.id.day < :before")
+    int deleteOlderThan(@Param("before") LocalDate before);
+}
@@ -0,0 +1,25 @@
+package com.linknest.api.repository;
+
+import com.linknest.api.dto.LinkSketchRow;
+import com.linknest.api.model.LinkVisitorSketch;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.util.stream.Stream;
+
+public interface LinkVisitorSketchRepository extends JpaRepository<LinkVisitorSketch, Long> {
+
+    // Sketches of all of a user's links, streamed so only one is in memory at a time
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("select new com.linknest.api.dto.LinkSketchRow(l.id, l.category, s.sketch) "
+            + "from LinkVisitorSketch s join Link l on l.id = s.linkId where l.user.username = :username")
+    Stream<LinkSketchRow> streamByUsername(@Param("username") String username);
+
+    @Modifying
+    @Query("delete from LinkVisitorSketch s where not exists (select 1 from Link l where l.id = s.linkId)")
+    int deleteOrphaned();
+}
@@ -1,15 +1,68 @@
 package com.linknest.api.repository;
 
+import com.linknest.api.dto.AdminUserSummary;
+import com.linknest.api.dto.DailyCount;
+import com.linknest.api.dto.RecentUser;
 import com.linknest.api.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /*
 By extending JpaRepository<User, Long>, we instantly get methods
 like save(), findById(), findAll(), and delete() for our User entity
 without writing any code.
  */
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     // This method allows us to find a user by their username
     Optional<User> findByUsername(String username);
-}
\ No newline at end of file
+
+    long countByCreatedAtAfter(LocalDateTime since);
+
+    // Newest registrations first, read through idx_users_created_at; the page size bounds the cost
+    @Query("select new com.linknest.api.dto.RecentUser(u.id, u.username, u.displayName, u.createdAt, u.isPublic, u.isAdmin) "
+            + "from User u where u.createdAt is not null order by u.createdAt desc, u.id desc")
+    List<RecentUser> findRecentUsers(Pageable pageable);
+
+    // Registrations per calendar day since the given time, grouped in the database
+    @Query("select new com.linknest.api.dto.DailyCount(cast(u.createdAt as LocalDate), count(u)) "
+            + "from User u where u.createdAt >= :since "
+            + "group by cast(u.createdAt as LocalDate) order by cast(u.createdAt as LocalDate)")
+    List<DailyCount> countRegistrationsPerDay(@Param("since") LocalDateTime since);
+
+    // Users in an id range with their link counts, read through a cursor for the admin export.
+    // The correlated count uses the links.user_id index, so rows stream in id order without
+    // grouping the whole table first. Must be consumed inside a transaction and closed.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.linknest.api.dto.AdminUserSummary(u.id, u.username, u.displayName, u.isAdmin, "
+            + "u.isPublic, u.createdAt, (select count(l) from Link l where l.user = u)) "
+            + "from User u where u.id between :fromId and :toId order by u.id")
+    Stream<AdminUserSummary> streamUserSummaries(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // Content version of a public profile; empty for unknown or private users
+    @Query("select coalesce(u.contentVersion, 0) from User u where u.username = :username and u.isPublic = true")
+    Optional<Long> findPublicContentVersion(@Param("username") String username);
+
+    // Row lock on the user until the transaction ends; serializes appends and moves in their link order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id = :id")
+    Optional<User> lockById(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query("update User u set u.contentVersion = coalesce(u.contentVersion, 0) + 1 where u.username in :usernames")
+    int incrementContentVersions(@Param("usernames") Collection<String> usernames);
+}
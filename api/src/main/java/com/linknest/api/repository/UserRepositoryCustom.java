@@ -0,0 +1,16 @@
+package com.linknest.api.repository;
+
+import com.linknest.api.dto.AdminUserSummary;
+
+import java.util.List;
+
+// Queries that need dynamic JPQL, implemented in UserRepositoryImpl
+public interface UserRepositoryCustom {
+
+    enum SortKey { ID, USERNAME }
+
+    // Keyset pagination: returns up to limit users strictly after the given key
+    // (afterId for ID, afterUsername for USERNAME; null for the first page)
+    List<AdminUserSummary> findUserSummaries(SortKey sort, boolean descending,
+                                             Long afterId, String afterUsername, int limit);
+}
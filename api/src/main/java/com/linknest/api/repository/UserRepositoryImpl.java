@@ -0,0 +1,38 @@
+package com.linknest.api.repository;
+
+import com.linknest.api.dto.AdminUserSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AdminUserSummary> findUserSummaries(SortKey sort, boolean descending,
+                                                    Long afterId, String afterUsername, int limit) {
+        String column = sort == SortKey.USERNAME ? "u.username" : "u.id";
+        Object after = sort == SortKey.USERNAME ? afterUsername : afterId;
+
+        // Links are only counted, never loaded
+        StringBuilder jpql = new StringBuilder(
+                "select new com.linknest.api.dto.AdminUserSummary("
+                        + "u.id, u.username, u.displayName, u.isAdmin, u.isPublic, u.createdAt, count(l.id)) "
+                        + "from User u left join u.links l ");
+        if (after != null) {
+            jpql.append("where ").append(column).append(descending ? " < " : " > ").append(":after ");
+        }
+        jpql.append("group by u.id, u.username, u.displayName, u.isAdmin, u.isPublic, u.createdAt ")
+                .append("order by ").append(column).append(descending ? " desc" : " asc");
+
+        TypedQuery<AdminUserSummary> query = entityManager.createQuery(jpql.toString(), AdminUserSummary.class);
+        if (after != null) {
+            query.setParameter("after", after);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
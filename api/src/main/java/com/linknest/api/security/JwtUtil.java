@@ -1,15 +1,17 @@
 package com.linknest.api.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import com.linknest.api.model.User;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -23,10 +25,16 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    // Create a secure key from the secret string
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    // Key and parser are immutable and thread-safe, so they are built once and shared
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     // Generate token with username AND isAdmin claim
@@ -39,49 +47,38 @@ public class JwtUtil {
                 .setSubject(user.getUsername())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expiration * 1000))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    // Parse and verify the token once and return everything the filter needs.
+    // Throws a JwtException if the signature is invalid or the token is expired.
+    public VerifiedClaims verify(String token) {
+        Claims claims = extractAllClaims(token);
+        Object isAdminObj = claims.get("isAdmin");
+        boolean isAdmin = isAdminObj != null && Boolean.parseBoolean(isAdminObj.toString());
+        Instant issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
+        return new VerifiedClaims(claims.getSubject(), isAdmin, issuedAt, claims.getExpiration().toInstant());
+    }
+
     // Extract username from token
     public String extractUsername(String token) {
-        return extractAllClaims(token).getSubject();
+        return verify(token).subject();
     }
 
     // Extract isAdmin from token
     public Boolean extractIsAdmin(String token) {
-        Claims claims = extractAllClaims(token);
-        Object isAdminObj = claims.get("isAdmin");
-        if (isAdminObj == null) {
-            return false;
-        }
-        return Boolean.valueOf(isAdminObj.toString());
+        return verify(token).isAdmin();
     }
 
     // Validate token
     public Boolean validateToken(String token) {
-        // Just checking if it's expired is enough.
-        // isTokenExpired() calls extractAllClaims(), which will
-        // throw an exception if the token is invalid or malformed.
-        return !isTokenExpired(token);
-    }
-
-    // Check if token is expired
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    // Extract expiration date
-    private Date extractExpiration(String token) {
-        return extractAllClaims(token).getExpiration();
+        // The parser rejects expired, invalid or malformed tokens with an exception
+        return verify(token).expiresAt().isAfter(Instant.now());
     }
 
     // Extract all claims
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 }
\ No newline at end of file
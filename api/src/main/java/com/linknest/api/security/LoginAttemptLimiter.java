@@ -0,0 +1,140 @@
+package com.linknest.api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+Counts failed logins per (username, client IP), per username and per client IP
+over a fixed window that starts with the first failure. Once any count reaches
+its limit, further attempts are rejected before the password is hashed, until the
+window expires. The (username, IP) count is the tight one and is per IP, so one
+client's failures never lock the account for anyone else. The per-username count
+has a much higher limit and catches guesses against one account spread over many
+IPs; the per-IP count is the limit on how many guesses a client gets overall.
+
+An attempt is reserved in all three counts before the password is checked
+(incremented, then compared), so a parallel burst from one client cannot all get
+through before the first failure is counted. A failure keeps its reservation; a
+success releases it and clears that username and IP's count. The key space is a
+size-bounded Caffeine cache, so a flood of random usernames cannot grow the heap.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    @Value("${login.max-failures-per-username:5}")
+    private int maxFailuresPerUsername;
+
+    @Value("${login.max-failures-per-account:100}")
+    private int maxFailuresPerAccount;
+
+    @Value("${login.max-failures-per-ip:50}")
+    private int maxFailuresPerIp;
+
+    @Value("${login.failure-window-seconds:900}")
+    private long windowSeconds;
+
+    @Value("${login.tracked-keys:100000}")
+    private long maxKeys;
+
+    // "username|ip" -> failures
+    private Cache<String, AtomicInteger> usernameIpFailures;
+    private Cache<String, AtomicInteger> accountFailures;
+    private Cache<String, AtomicInteger> ipFailures;
+    private final LongAdder rejected = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        usernameIpFailures = newCounterCache();
+        accountFailures = newCounterCache();
+        ipFailures = newCounterCache();
+    }
+
+    // Reserves one attempt, or returns false with nothing reserved when a limit is reached.
+    // A failed attempt needs nothing more; a successful one calls recordSuccess, and one that
+    // never reached the password check calls release.
+    public boolean tryAcquire(String username, String clientIp) {
+        String account = accountKey(username);
+        String usernameIp = account + "|" + clientIp;
+        boolean acquired = false;
+        if (reserve(usernameIpFailures, usernameIp, maxFailuresPerUsername)) {
+            if (reserve(accountFailures, account, maxFailuresPerAccount)) {
+                if (reserve(ipFailures, clientIp, maxFailuresPerIp)) {
+                    acquired = true;
+                } else {
+                    unreserve(accountFailures, account);
+                    unreserve(usernameIpFailures, usernameIp);
+                }
+            } else {
+                unreserve(usernameIpFailures, usernameIp);
+            }
+        }
+        if (!acquired) {
+            rejected.increment();
+        }
+        return acquired;
+    }
+
+    public void recordSuccess(String username, String clientIp) {
+        release(username, clientIp);
+        usernameIpFailures.invalidate(accountKey(username) + "|" + clientIp);
+    }
+
+    // The attempt never reached the password check (e.g. the hashing pool was full)
+    public void release(String username, String clientIp) {
+        String account = accountKey(username);
+        unreserve(usernameIpFailures, account + "|" + clientIp);
+        unreserve(accountFailures, account);
+        unreserve(ipFailures, clientIp);
+    }
+
+    public long retryAfterSeconds() {
+        return windowSeconds;
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("rejected", rejected.sum());
+        metrics.put("trackedUsernameIps", usernameIpFailures.estimatedSize());
+        metrics.put("trackedUsernames", accountFailures.estimatedSize());
+        metrics.put("trackedIps", ipFailures.estimatedSize());
+        return metrics;
+    }
+
+    private Cache<String, AtomicInteger> newCounterCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(Duration.ofSeconds(windowSeconds))
+                .build();
+    }
+
+    // Increment first, then compare, so concurrent attempts cannot all see room for one more
+    private static boolean reserve(Cache<String, AtomicInteger> counters, String key, int max) {
+        AtomicInteger count = counters.get(key, k -> new AtomicInteger());
+        if (count.incrementAndGet() <= max) {
+            return true;
+        }
+        count.decrementAndGet();
+        return false;
+    }
+
+    private static void unreserve(Cache<String, AtomicInteger> counters, String key) {
+        AtomicInteger count = counters.getIfPresent(key);
+        if (count != null) {
+            count.updateAndGet(n -> Math.max(0, n - 1));
+        }
+    }
+
+    private static String accountKey(String username) {
+        return username != null ? username.toLowerCase(Locale.ROOT) : "";
+    }
+}
@@ -0,0 +1,46 @@
+package com.linknest.api.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+In-memory revocation check used instead of a database lookup per request.
+Revoking a user rejects every token issued to them before that moment; an
+entry is dropped once all such tokens would have expired anyway.
+Note: the list is per instance, so each node must receive the revocation.
+ */
+@Component
+public class TokenRevocationList {
+
+    @Value("${jwt.expiration}")
+    private Long expiration;
+
+    // username -> tokens issued before this instant are rejected
+    private final Map<String, Instant> revokedBefore = new ConcurrentHashMap<>();
+
+    // Reject all tokens issued to this user so far (e.g. after their role changed)
+    public void revokeAll(String username) {
+        revokedBefore.put(username, Instant.now());
+    }
+
+    // "iat" only has second precision, so a token issued in the same second as the
+    // revocation is rejected too; the user just has to log in again
+    public boolean isRevoked(VerifiedClaims claims) {
+        Instant cutoff = revokedBefore.get(claims.subject());
+        if (cutoff == null) {
+            return false;
+        }
+        return claims.issuedAt() == null || claims.issuedAt().isBefore(cutoff);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation-cleanup-ms:3600000}")
+    public void removeExpiredEntries() {
+        Instant oldestLiveToken = Instant.now().minusSeconds(expiration);
+        revokedBefore.values().removeIf(cutoff -> cutoff.isBefore(oldestLiveToken));
+    }
+}
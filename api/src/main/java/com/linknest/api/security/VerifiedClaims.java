@@ -0,0 +1,7 @@
+package com.linknest.api.security;
+
+import java.time.Instant;
+
+// Claims of a token whose signature and expiry have already been checked
+public record VerifiedClaims(String subject, boolean isAdmin, Instant issuedAt, Instant expiresAt) {
+}
@@ -0,0 +1,109 @@
+package com.linknest.api.service;
+
+import com.linknest.api.config.JsonWriters;
+import com.linknest.api.dto.AdminLinkRow;
+import com.linknest.api.dto.AdminUserSummary;
+import com.linknest.api.repository.LinkRepository;
+import com.linknest.api.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/*
+Operator export of every user (with link counts) or every link, streamed from a
+server-side cursor in id order. Exports are resumable: a client that lost the
+connection asks again with fromId set to the last id it received plus one.
+Each running export holds a request thread and a database connection for its
+whole duration, so only a few may run at once; callers must take a permit
+with tryStart() and give it back with finish().
+ */
+@Service
+public class AdminExportService {
+
+    public enum Dataset {
+        USERS, LINKS
+    }
+
+    private static final String USERS_CSV_HEADER = "id,username,displayName,isAdmin,isPublic,createdAt,linkCount";
+    private static final String LINKS_CSV_HEADER =
+            "id,userId,username,title,url,category,clickCount,lastClicked,createdAt";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private JsonWriters jsonWriters;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${admin.export.max-concurrent:2}")
+    private int maxConcurrent;
+
+    private Semaphore permits;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(maxConcurrent);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    // False when the maximum number of exports is already running
+    public boolean tryStart() {
+        return permits.tryAcquire();
+    }
+
+    public void finish() {
+        permits.release();
+    }
+
+    // Writes rows with fromId <= id <= toId; the range bounds are inclusive
+    public void export(Dataset dataset, ExportFormat format, long fromId, long toId, OutputStream out)
+            throws IOException {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try {
+                    if (dataset == Dataset.USERS) {
+                        writeUsers(format, fromId, toId, out);
+                    } else {
+                        writeLinks(format, fromId, toId, out);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeUsers(ExportFormat format, long fromId, long toId, OutputStream out) throws IOException {
+        try (Stream<AdminUserSummary> users = userRepository.streamUserSummaries(fromId, toId)) {
+            ExportWriter.write(users.iterator(), format, out, jsonWriters.adminUserWriter(), USERS_CSV_HEADER,
+                    user -> new Object[] {user.id(), user.username(), user.displayName(), user.isAdmin(),
+                            user.isPublic(), user.createdAt(), user.linkCount()});
+        }
+    }
+
+    private void writeLinks(ExportFormat format, long fromId, long toId, OutputStream out) throws IOException {
+        try (Stream<AdminLinkRow> links = linkRepository.streamAdminRows(fromId, toId)) {
+            ExportWriter.write(links.iterator(), format, out, jsonWriters.adminLinkWriter(), LINKS_CSV_HEADER,
+                    link -> new Object[] {link.id(), link.userId(), link.username(), link.title(), link.url(),
+                            link.category(), link.clickCount(), link.lastClicked(), link.createdAt()});
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.linknest.api.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Defers cache invalidation until the surrounding transaction has committed. Invalidating
+// earlier lets a concurrent miss reload the old row and cache it again for the whole TTL.
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    // Runs now when there is no transaction (the change is already committed); skipped on rollback
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
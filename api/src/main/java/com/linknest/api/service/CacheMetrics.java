@@ -0,0 +1,25 @@
+package com.linknest.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Turns Caffeine statistics into the JSON shape served by /api/admin/metrics
+public final class CacheMetrics {
+
+    private CacheMetrics() {
+    }
+
+    public static Map<String, Object> of(Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("size", cache.estimatedSize());
+        metrics.put("hits", stats.hitCount());
+        metrics.put("misses", stats.missCount());
+        metrics.put("evictions", stats.evictionCount());
+        metrics.put("hitRate", Math.round(stats.hitRate() * 1000.0) / 1000.0);
+        return metrics;
+    }
+}
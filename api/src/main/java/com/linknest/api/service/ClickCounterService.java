@@ -0,0 +1,154 @@
+package com.linknest.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linknest.api.repository.LinkRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+Write-behind click counter. Clicks are accumulated in memory per link id and
+written to the links table in batches by a scheduled flush, so the click
+endpoint never does a read-modify-write of the whole row. The count it returns
+comes from an in-memory counter seeded from the database once per link and TTL,
+so a click does not query the database either.
+ */
+@Service
+public class ClickCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClickCounterService.class);
+
+    private static final String FLUSH_SQL =
+            "UPDATE links SET click_count = COALESCE(click_count, 0) + ?, last_clicked = ? WHERE id = ?";
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${clicks.batch-size:500}")
+    private int batchSize;
+
+    @Value("${clicks.count-cache.max-size:100000}")
+    private long countCacheMaxSize;
+
+    @Value("${clicks.count-cache.ttl-seconds:60}")
+    private long countCacheTtlSeconds;
+
+    // Displayed count per link: the persisted count when loaded plus every click recorded here since.
+    // Flushes do not touch it; the TTL reloads it so clicks counted by other instances show up.
+    private Cache<Long, AtomicLong> counts;
+
+    // Clicks not yet written to the database, keyed by link id.
+    // merge() and remove() are atomic per key, so no click is lost between a flush and a new click.
+    private final Map<Long, PendingClicks> pending = new ConcurrentHashMap<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @PostConstruct
+    public void init() {
+        counts = Caffeine.newBuilder()
+                .maximumSize(countCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(countCacheTtlSeconds))
+                .build();
+    }
+
+    // Record one click and return the current count (persisted + not yet flushed).
+    // Only the first click on a link per TTL reads the database.
+    public long recordClick(Long linkId) {
+        AtomicLong count = counts.get(linkId, this::loadCount);
+        pending.merge(linkId, new PendingClicks(1, LocalDateTime.now()), PendingClicks::plus);
+        return count.incrementAndGet();
+    }
+
+    // Clicks recorded for a link that have not been flushed yet
+    public long pendingClicks(Long linkId) {
+        PendingClicks clicks = pending.get(linkId);
+        return clicks != null ? clicks.count() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${clicks.flush-interval-ms:5000}")
+    public void flush() {
+        // A lock rather than synchronized: a virtual thread that blocks on JDBC inside
+        // a synchronized block pins its carrier thread (Java 21)
+        flushLock.lock();
+        try {
+            List<Map.Entry<Long, PendingClicks>> batch = new ArrayList<>();
+            for (Long linkId : pending.keySet()) {
+                PendingClicks clicks = pending.remove(linkId);
+                if (clicks == null) {
+                    continue;
+                }
+                batch.add(Map.entry(linkId, clicks));
+                if (batch.size() >= batchSize) {
+                    write(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Drain whatever is still pending before the datasource goes away
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    private void write(List<Map.Entry<Long, PendingClicks>> batch) {
+        List<Object[]> args = new ArrayList<>(batch.size());
+        for (Map.Entry<Long, PendingClicks> entry : batch) {
+            args.add(new Object[]{
+                    entry.getValue().count(),
+                    Timestamp.valueOf(entry.getValue().lastClicked()),
+                    entry.getKey()
+            });
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+        } catch (Exception e) {
+            // Put the deltas back so the next flush retries them
+            log.error("Failed to flush {} click counters, will retry", batch.size(), e);
+            for (Map.Entry<Long, PendingClicks> entry : batch) {
+                pending.merge(entry.getKey(), entry.getValue(), PendingClicks::plus);
+            }
+        }
+    }
+
+    // Clicks still pending were counted by the previous counter but are not in the row yet
+    private AtomicLong loadCount(Long linkId) {
+        long persisted = linkRepository.findClickCountById(linkId)
+                .orElseThrow(() -> new RuntimeException("Link not found"));
+        return new AtomicLong(persisted + pendingClicks(linkId));
+    }
+
+    record PendingClicks(long count, LocalDateTime lastClicked) {
+        PendingClicks plus(PendingClicks other) {
+            LocalDateTime latest = lastClicked.isAfter(other.lastClicked) ? lastClicked : other.lastClicked;
+            return new PendingClicks(count + other.count, latest);
+        }
+    }
+}
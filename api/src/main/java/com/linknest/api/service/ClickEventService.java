@@ -0,0 +1,135 @@
+package com.linknest.api.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+Append-only click log. The click endpoint only offers an event to a bounded
+in-memory queue; a scheduled flush drains it into click_events with JDBC batch
+inserts. When the queue is full (database down or far behind) new events are
+dropped and counted rather than blocking requests or growing the heap.
+ */
+@Service
+public class ClickEventService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClickEventService.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO click_events (link_id, clicked_at, referrer_hash, country) VALUES (?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${clicks.events.queue-capacity:100000}")
+    private int queueCapacity;
+
+    @Value("${clicks.batch-size:500}")
+    private int batchSize;
+
+    private BlockingQueue<Event> queue;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    // Never blocks; returns false when the event was dropped because the queue is full
+    public boolean record(Long linkId, String referrer, String country) {
+        Event event = new Event(linkId, LocalDateTime.now(), referrerHash(referrer), normalizeCountry(country));
+        if (queue.offer(event)) {
+            return true;
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${clicks.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Event> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("queued", queue.size());
+        metrics.put("capacity", queueCapacity);
+        metrics.put("written", written.get());
+        metrics.put("dropped", dropped.get());
+        return metrics;
+    }
+
+    private void write(List<Event> batch) {
+        List<Object[]> args = new ArrayList<>(batch.size());
+        for (Event event : batch) {
+            args.add(new Object[]{event.linkId(), Timestamp.valueOf(event.clickedAt()), event.referrerHash(), event.country()});
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, args);
+            written.addAndGet(batch.size());
+        } catch (Exception e) {
+            // Counters are still updated by ClickCounterService; only the detail rows are lost
+            log.error("Failed to write {} click events, dropping them", batch.size(), e);
+            dropped.addAndGet(batch.size());
+        }
+    }
+
+    // Hash of the referring host only; paths and query strings are never kept
+    static Integer referrerHash(String referrer) {
+        if (referrer == null || referrer.isBlank()) {
+            return null;
+        }
+        try {
+            String host = URI.create(referrer.trim()).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT).hashCode() : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    static String normalizeCountry(String country) {
+        if (country == null || country.length() != 2) {
+            return null;
+        }
+        return country.toUpperCase(Locale.ROOT);
+    }
+
+    record Event(Long linkId, LocalDateTime clickedAt, Integer referrerHash, String country) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.linknest.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/*
+Token bucket per (client IP, link id) in front of the click endpoint, so a script
+hammering one link is turned away before any repository call. Each bucket holds
+up to `capacity` clicks and refills one every `refill-interval-ms`.
+
+A bucket is a single AtomicLong updated by compare-and-set, in the GCRA form of
+the token bucket: it stores the time at which the bucket will be full again
+rather than a token count. Buckets live in a size-bounded Caffeine cache and
+expire once idle long enough to have refilled completely, so evicting one
+never changes a decision.
+ */
+@Component
+public class ClickRateLimiter {
+
+    @Value("${clicks.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${clicks.rate-limit.capacity:5}")
+    private int capacity;
+
+    @Value("${clicks.rate-limit.refill-interval-ms:10000}")
+    private long refillIntervalMs;
+
+    @Value("${clicks.rate-limit.max-keys:100000}")
+    private long maxKeys;
+
+    // Overridable for tests
+    LongSupplier nanoClock = System::nanoTime;
+
+    private long intervalNanos;
+    private long burstNanos;
+    private Cache<BucketKey, AtomicLong> buckets;
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        intervalNanos = TimeUnit.MILLISECONDS.toNanos(refillIntervalMs);
+        burstNanos = intervalNanos * capacity;
+        buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(burstNanos))
+                .build();
+    }
+
+    // Takes one token for this client and link; false if the bucket is empty
+    public boolean tryAcquire(String clientIp, Long linkId) {
+        if (!enabled) {
+            accepted.increment();
+            return true;
+        }
+
+        // Time at which the bucket is full again; a new bucket is full now
+        AtomicLong fullAt = buckets.get(new BucketKey(clientIp, linkId), key -> new AtomicLong(Long.MIN_VALUE));
+        long now = nanoClock.getAsLong();
+        while (true) {
+            long current = fullAt.get();
+            long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long next = base + intervalNanos;
+            if (next - now > burstNanos) {
+                dropped.increment();
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                accepted.increment();
+                return true;
+            }
+        }
+    }
+
+    // Seconds until the next token, for Retry-After
+    public long retryAfterSeconds() {
+        return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(refillIntervalMs));
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("accepted", accepted.sum());
+        metrics.put("dropped", dropped.sum());
+        metrics.put("trackedKeys", buckets.estimatedSize());
+        return metrics;
+    }
+
+    private record BucketKey(String clientIp, Long linkId) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.linknest.api.service;
+
+import com.linknest.api.dto.ClickBucket;
+import com.linknest.api.repository.ClickRollupDailyRepository;
+import com.linknest.api.repository.ClickRollupHourlyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+Maintains the hourly and daily click rollups and serves link time series from them.
+Each run finds the click events written since the previous run (by event id, so
+events that were queued for a while are not missed), and recomputes every hourly
+bucket from the oldest of them onwards, then the daily buckets from the hourly ones.
+Recomputing whole buckets keeps the job idempotent across retries and restarts.
+Daily rollups outlive the raw events and hourly rollups, which both expire.
+ */
+@Service
+public class ClickRollupService {
+
+    public enum Granularity { HOUR, DAY }
+
+    private static final Logger log = LoggerFactory.getLogger(ClickRollupService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClickRollupHourlyRepository hourlyRepository;
+
+    @Autowired
+    private ClickRollupDailyRepository dailyRepository;
+
+    @Value("${clicks.events.retention-days:30}")
+    private int eventRetentionDays;
+
+    @Value("${clicks.hourly-retention-days:90}")
+    private int hourlyRetentionDays;
+
+    // Highest click event id included in the rollups; null until the first run
+    private Long rolledUpEventId;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Scheduled(fixedDelayString = "${clicks.rollup-interval-ms:60000}",
+            initialDelayString = "${clicks.rollup-interval-ms:60000}")
+    @Transactional
+    public void rollup() {
+        lock.lock();
+        try {
+            Long maxEventId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM click_events", Long.class);
+            if (maxEventId == null) {
+                return;
+            }
+
+            LocalDateTime from;
+            if (rolledUpEventId == null) {
+                // After a restart, redo the latest (possibly incomplete) hour or start from the first event
+                from = jdbcTemplate.queryForObject("SELECT MAX(bucket_start) FROM click_rollups_hourly", LocalDateTime.class);
+                if (from == null) {
+                    from = jdbcTemplate.queryForObject("SELECT MIN(clicked_at) FROM click_events", LocalDateTime.class);
+                }
+            } else {
+                from = jdbcTemplate.queryForObject("SELECT MIN(clicked_at) FROM click_events WHERE id > ? AND id <= ?",
+                        LocalDateTime.class, rolledUpEventId, maxEventId);
+            }
+
+            if (from != null) {
+                recompute(from);
+            }
+            rolledUpEventId = maxEventId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recompute(LocalDateTime from) {
+        Timestamp hourStart = Timestamp.valueOf(from.truncatedTo(ChronoUnit.HOURS));
+        Timestamp dayStart = Timestamp.valueOf(from.truncatedTo(ChronoUnit.DAYS));
+
+        jdbcTemplate.update("DELETE FROM click_rollups_hourly WHERE bucket_start >= ?", hourStart);
+        jdbcTemplate.update("INSERT INTO click_rollups_hourly (link_id, bucket_start, clicks) "
+                + "SELECT link_id, DATE_TRUNC('HOUR', clicked_at), COUNT(*) FROM click_events "
+                + "WHERE clicked_at >= ? GROUP BY link_id, DATE_TRUNC('HOUR', clicked_at)", hourStart);
+
+        jdbcTemplate.update("DELETE FROM click_rollups_daily WHERE bucket_start >= ?", dayStart);
+        jdbcTemplate.update("INSERT INTO click_rollups_daily (link_id, bucket_start, clicks) "
+                + "SELECT link_id, DATE_TRUNC('DAY', bucket_start), SUM(clicks) FROM click_rollups_hourly "
+                + "WHERE bucket_start >= ? GROUP BY link_id, DATE_TRUNC('DAY', bucket_start)", dayStart);
+    }
+
+    // Keeps storage bounded: raw events and hourly buckets expire, daily buckets of deleted links go
+    @Scheduled(cron = "${clicks.retention-cron:0 30 3 * * *}")
+    @Transactional
+    public void applyRetention() {
+        lock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int events = jdbcTemplate.update("DELETE FROM click_events WHERE clicked_at < ?",
+                    Timestamp.valueOf(now.minusDays(eventRetentionDays)));
+            int hourly = jdbcTemplate.update("DELETE FROM click_rollups_hourly WHERE bucket_start < ?",
+                    Timestamp.valueOf(now.minusDays(hourlyRetentionDays)));
+            int orphaned = jdbcTemplate.update("DELETE FROM click_rollups_daily WHERE NOT EXISTS "
+                    + "(SELECT 1 FROM links l WHERE l.id = click_rollups_daily.link_id)");
+            log.info("Click retention removed {} events, {} hourly and {} orphaned daily rollups", events, hourly, orphaned);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The last `periods` hours or days up to and including the current one; empty buckets count 0.
+    // The current bucket lags behind by at most one rollup interval.
+    public List<ClickBucket> timeseries(Long linkId, Granularity granularity, int periods) {
+        ChronoUnit unit = granularity == Granularity.HOUR ? ChronoUnit.HOURS : ChronoUnit.DAYS;
+        LocalDateTime current = LocalDateTime.now().truncatedTo(unit);
+        LocalDateTime from = current.minus(periods - 1L, unit);
+        LocalDateTime to = current.plus(1, unit);
+
+        Map<LocalDateTime, Long> clicks = new LinkedHashMap<>();
+        for (LocalDateTime bucket = from; bucket.isBefore(to); bucket = bucket.plus(1, unit)) {
+            clicks.put(bucket, 0L);
+        }
+        List<ClickBucket> rows = granularity == Granularity.HOUR
+                ? hourlyRepository.findBuckets(linkId, from, to)
+                : dailyRepository.findBuckets(linkId, from, to);
+        for (ClickBucket row : rows) {
+            clicks.put(row.bucketStart(), row.clicks());
+        }
+
+        List<ClickBucket> series = new ArrayList<>(clicks.size());
+        clicks.forEach((bucket, count) -> series.add(new ClickBucket(bucket, count)));
+        return series;
+    }
+}
@@ -0,0 +1,59 @@
+package com.linknest.api.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Function;
+
+// Writes rows to an output stream one at a time in any ExportFormat, leaving the stream open
+final class ExportWriter {
+
+    private ExportWriter() {
+    }
+
+    static <T> void write(Iterator<T> rows, ExportFormat format, OutputStream out, ObjectWriter jsonWriter,
+                          String csvHeader, Function<T, Object[]> csvRow) throws IOException {
+        switch (format) {
+            case JSON -> writeJson(rows, out, jsonWriter, false);
+            case NDJSON -> writeJson(rows, out, jsonWriter, true);
+            case CSV -> writeCsv(rows, out, csvHeader, csvRow);
+        }
+        out.flush();
+    }
+
+    private static <T> void writeJson(Iterator<T> rows, OutputStream out, ObjectWriter jsonWriter,
+                                      boolean lineDelimited) throws IOException {
+        // The servlet stream stays open for the container to finish the response
+        ObjectWriter writer = jsonWriter.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try (SequenceWriter sequence = lineDelimited
+                ? writer.withRootValueSeparator("\n").writeValues(out)
+                : writer.writeValuesAsArray(out)) {
+            while (rows.hasNext()) {
+                sequence.write(rows.next());
+            }
+        }
+        if (lineDelimited) {
+            out.write('\n');
+        }
+    }
+
+    private static <T> void writeCsv(Iterator<T> rows, OutputStream out, String csvHeader,
+                                     Function<T, Object[]> csvRow) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(csvHeader);
+        writer.write('\n');
+        while (rows.hasNext()) {
+            writer.write(LinkCsv.formatLine(csvRow.apply(rows.next())));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+}
@@ -0,0 +1,214 @@
+package com.linknest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linknest.api.dto.LinkBatchRequest;
+import com.linknest.api.dto.LinkBatchResult;
+import com.linknest.api.dto.LinkInput;
+import com.linknest.api.dto.LinkResponse;
+import com.linknest.api.model.Link;
+import com.linknest.api.model.User;
+import com.linknest.api.repository.LinkRepository;
+import com.linknest.api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+Multi-link mutations in one request. Each call runs in one transaction, so a
+batch or import is applied completely or not at all. Inserts are written with
+JDBC batching (sequence ids + hibernate.jdbc.batch_size).
+ */
+@Service
+public class LinkBulkService {
+
+    public enum ImportFormat { NDJSON, CSV }
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LinkOrderService linkOrderService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${links.batch.max-operations:1000}")
+    private int maxOperations;
+
+    // Imports are flushed and detached in chunks of this size to keep memory flat
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int chunkSize;
+
+    @Transactional
+    public LinkBatchResult applyBatch(String username, LinkBatchRequest request) {
+        int operations = request.getCreates().size() + request.getUpdates().size() + request.getDeletes().size();
+        if (operations > maxOperations) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A batch may contain at most " + maxOperations + " operations");
+        }
+        if (request.getCreates().contains(null) || request.getUpdates().contains(null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch entries must not be null");
+        }
+
+        User user = findUser(username);
+
+        List<Link> toDelete = loadOwned(user, request.getDeletes());
+        linkRepository.deleteAllInBatch(toDelete);
+
+        Map<Long, Link> toUpdate = loadOwned(user, request.getUpdates().stream().map(LinkInput::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Link::getId, Function.identity()));
+        for (LinkInput input : request.getUpdates()) {
+            // Same rules as PUT /api/links/{id}: a missing category keeps the current one
+            Link link = toUpdate.get(input.getId());
+            requireTitleAndUrl(input);
+            link.setTitle(input.getTitle());
+            link.setUrl(input.getUrl());
+            if (input.getCategory() != null) {
+                link.setCategory(input.getCategory());
+            }
+        }
+
+        // New links are appended in request order
+        List<Link> created = new ArrayList<>(request.getCreates().size());
+        long position = request.getCreates().isEmpty() ? 0 : linkOrderService.nextPosition(user);
+        for (LinkInput input : request.getCreates()) {
+            created.add(newLink(user, input, position));
+            position += LinkOrderService.GAP;
+        }
+        linkRepository.saveAll(created);
+
+        return new LinkBatchResult(created.stream().map(LinkResponse::from).toList(), toUpdate.size(), toDelete.size());
+    }
+
+    // Streams links from NDJSON ({"title":..,"url":..,"category":..} per line) or CSV
+    // (title,url,category with an optional header row; extra columns such as those
+    // of a CSV export are ignored). Returns the number imported.
+    @Transactional
+    public int importLinks(String username, BufferedReader reader, ImportFormat format) throws IOException {
+        User user = findUser(username);
+        long position = linkOrderService.nextPosition(user);
+
+        List<Link> chunk = new ArrayList<>(chunkSize);
+        int imported = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            int firstLine = lineNumber;
+            // A quoted CSV field may contain line breaks (export writes them as-is): read on to its closing quote
+            while (format == ImportFormat.CSV && LinkCsv.hasOpenQuote(line)) {
+                String next = reader.readLine();
+                if (next == null) {
+                    break; // parseLine reports the unterminated field
+                }
+                lineNumber++;
+                line = line + "\n" + next;
+            }
+            if (line.isBlank() || (format == ImportFormat.CSV && firstLine == 1
+                    && line.trim().toLowerCase().startsWith(LinkCsv.HEADER.toLowerCase()))) {
+                continue;
+            }
+
+            LinkInput input;
+            try {
+                input = format == ImportFormat.CSV ? parseCsv(line) : objectMapper.readValue(line, LinkInput.class);
+                chunk.add(newLink(user, input, position));
+                position += LinkOrderService.GAP;
+            } catch (IOException | IllegalArgumentException | ResponseStatusException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid link on line " + firstLine, e);
+            }
+
+            if (chunk.size() == chunkSize) {
+                imported += writeChunk(chunk);
+            }
+        }
+        imported += writeChunk(chunk);
+        return imported;
+    }
+
+    private int writeChunk(List<Link> chunk) {
+        int size = chunk.size();
+        linkRepository.saveAll(chunk);
+        // Send the batched inserts and drop the entities from the persistence context
+        entityManager.flush();
+        entityManager.clear();
+        chunk.clear();
+        return size;
+    }
+
+    private User findUser(String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
+    // Loads the given links, failing the whole batch if any is missing or owned by someone else
+    private List<Link> loadOwned(User user, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.contains(null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Every update and delete needs an id");
+        }
+        List<Link> links = linkRepository.findAllById(ids);
+        if (links.size() != ids.stream().distinct().count()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Link not found");
+        }
+        for (Link link : links) {
+            // getId() on the lazy user proxy does not hit the database
+            if (!link.getUser().getId().equals(user.getId())) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN,
+                        "You don't have permission to change link " + link.getId());
+            }
+        }
+        return links;
+    }
+
+    private static Link newLink(User user, LinkInput input, long position) {
+        requireTitleAndUrl(input);
+        Link link = new Link();
+        link.setTitle(input.getTitle());
+        link.setUrl(input.getUrl());
+        link.setCategory(input.getCategory() != null ? input.getCategory() : "Other");
+        link.setUser(user);
+        link.setPosition(position);
+        return link;
+    }
+
+    private static void requireTitleAndUrl(LinkInput input) {
+        if (input.getTitle() == null || input.getTitle().isBlank() || input.getUrl() == null || input.getUrl().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Every link needs a title and a url");
+        }
+    }
+
+    private static LinkInput parseCsv(String line) {
+        List<String> fields = LinkCsv.parseLine(line);
+        if (fields.size() < 2) {
+            throw new IllegalArgumentException("Expected title,url[,category]");
+        }
+        LinkInput input = new LinkInput();
+        input.setTitle(fields.get(0));
+        input.setUrl(fields.get(1));
+        input.setCategory(fields.size() >= 3 && !fields.get(2).isBlank() ? fields.get(2) : null);
+        return input;
+    }
+}
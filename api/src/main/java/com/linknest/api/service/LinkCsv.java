@@ -0,0 +1,77 @@
+package com.linknest.api.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Minimal CSV handling for link import/export: comma separated, "quoted" fields with "" escapes.
+// Quoted fields may span lines; the importer joins them with hasOpenQuote before parseLine.
+public final class LinkCsv {
+
+    // Import reads the first three columns; export appends id and analytics after them
+    public static final String HEADER = "title,url,category";
+    public static final String EXPORT_HEADER = HEADER + ",id,clickCount,lastClicked,createdAt";
+
+    private LinkCsv() {
+    }
+
+    // Formats one row, quoting fields that contain a comma, quote or line break
+    public static String formatLine(Object... values) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            String value = values[i] != null ? values[i].toString() : "";
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                line.append('"').append(value.replace("\"", "\"\"")).append('"');
+            } else {
+                line.append(value);
+            }
+        }
+        return line.toString();
+    }
+
+    // True while a quoted field is still open at the end of the text read so far, i.e. the record
+    // continues on the next line. "" escapes come in pairs, so counting quotes is enough
+    public static boolean hasOpenQuote(String text) {
+        int quotes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes % 2 == 1;
+    }
+
+    public static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,39 @@
+package com.linknest.api.service;
+
+import com.linknest.api.config.JsonWriters;
+import com.linknest.api.dto.LinkResponse;
+import com.linknest.api.repository.LinkRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+/*
+Streams a user's links (with their click analytics) straight to the response.
+Rows are read through a database cursor as LinkResponse records, which never
+enter the persistence context, so memory stays flat whatever the link count.
+ */
+@Service
+public class LinkExportService {
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private JsonWriters jsonWriters;
+
+    @Transactional(readOnly = true)
+    public void exportLinks(String username, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<LinkResponse> links = linkRepository.streamResponsesByUsername(username)) {
+            ExportWriter.write(links.iterator(), format, out, jsonWriters.linkWriter(), LinkCsv.EXPORT_HEADER,
+                    link -> new Object[] {link.title(), link.url(), link.category(), link.id(),
+                            link.clickCount(), link.lastClicked(), link.createdAt()});
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.linknest.api.service;
+
+import com.linknest.api.model.LinkUrls;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/*
+Fills links.display_domain and links.favicon_url for rows created before those
+columns existed. Runs once after startup, walking the table by id in batches.
+ */
+@Component
+public class LinkMetadataBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(LinkMetadataBackfill.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${links.backfill-batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long lastId = 0;
+        int updated = 0;
+        List<Map<String, Object>> rows;
+        do {
+            rows = jdbcTemplate.queryForList(
+                    "SELECT id, url FROM links WHERE display_domain IS NULL AND id > ? ORDER BY id LIMIT ?",
+                    lastId, batchSize);
+
+            List<Object[]> args = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                long id = ((Number) row.get("id")).longValue();
+                String url = (String) row.get("url");
+                String displayDomain = LinkUrls.displayDomain(url);
+                args.add(new Object[]{displayDomain, LinkUrls.faviconUrl(url, displayDomain), id});
+                lastId = id;
+            }
+            if (!args.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE links SET display_domain = ?, favicon_url = ? WHERE id = ?", args);
+                updated += args.size();
+            }
+        } while (rows.size() == batchSize);
+
+        if (updated > 0) {
+            log.info("Backfilled display domain and favicon for {} links", updated);
+        }
+    }
+}
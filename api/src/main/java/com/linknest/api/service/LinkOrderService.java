@@ -0,0 +1,96 @@
+package com.linknest.api.service;
+
+import com.linknest.api.model.Link;
+import com.linknest.api.model.User;
+import com.linknest.api.repository.LinkRepository;
+import com.linknest.api.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+User-defined link order. Each link has a position and links are listed by
+(position, id). New links are appended GAP after the current last one, and a
+moved link takes the midpoint between its new neighbours, so a drag and drop
+updates a single row. Only when two neighbours are 1 apart (after ~10 moves
+into the same spot) or share a position are the user's links renumbered GAP
+apart again. Appends and moves lock the user's row first, so concurrent ones for
+the same user read each other's positions instead of picking the same one.
+ */
+@Service
+public class LinkOrderService {
+
+    // Must match the spacing of the backfill in V4__link_positions.sql
+    public static final long GAP = 1024;
+
+    private static final PageRequest FIRST = PageRequest.of(0, 1);
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Position for a link appended after all of the user's links. The caller's transaction must
+    // insert the link before it ends, since that is how long the lock is held
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long nextPosition(User user) {
+        userRepository.lockById(user.getId());
+        List<Long> last = linkRepository.findLastPositions(user.getId(), FIRST);
+        return last.isEmpty() ? GAP : last.get(0) + GAP;
+    }
+
+    // Moves `link` right after `after`, or to the top when `after` is null. Both must belong
+    // to the same user. Returns the new position. The entities may have been loaded before the
+    // lock, so their positions are read again under it rather than taken from them.
+    @Transactional
+    public long moveAfter(Link link, Link after) {
+        Long userId = link.getUser().getId();
+        userRepository.lockById(userId);
+        long position;
+        if (after == null) {
+            List<Long> first = linkRepository.findFirstPositions(userId, link.getId(), FIRST);
+            position = first.isEmpty() ? currentPosition(link) : first.get(0) - GAP;
+        } else {
+            long lower = currentPosition(after);
+            List<Long> next = linkRepository.findPositionsAfter(userId, lower, after.getId(), link.getId(), FIRST);
+            if (next.isEmpty()) {
+                position = lower + GAP;
+            } else if (next.get(0) - lower > 1) {
+                position = lower + (next.get(0) - lower) / 2;
+            } else {
+                return renumber(userId, link.getId(), after.getId());
+            }
+        }
+        linkRepository.updatePosition(link.getId(), position);
+        return position;
+    }
+
+    private long currentPosition(Link link) {
+        return linkRepository.findPositionById(link.getId())
+                .orElseThrow(() -> new RuntimeException("Link not found with id: " + link.getId()));
+    }
+
+    // Rewrites every position of the user GAP apart with the moved link placed after `afterId`
+    private long renumber(Long userId, Long movedId, Long afterId) {
+        List<Long> ids = new ArrayList<>(linkRepository.findIdsInOrder(userId));
+        ids.remove(movedId);
+        ids.add(ids.indexOf(afterId) + 1, movedId);
+
+        List<Object[]> args = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            args.add(new Object[]{(i + 1) * GAP, ids.get(i)});
+        }
+        jdbcTemplate.batchUpdate("UPDATE links SET position = ? WHERE id = ?", args);
+        return (ids.indexOf(movedId) + 1) * GAP;
+    }
+}
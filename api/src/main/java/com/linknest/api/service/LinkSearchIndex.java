@@ -0,0 +1,143 @@
+package com.linknest.api.service;
+
+import com.linknest.api.dto.LinkResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/*
+Inverted index over one user's links: token -> link ids, for the words of the
+title, display domain and category. Tokens are kept sorted so a query token
+matches every indexed token it is a prefix of with one subMap range. Only ids
+and ranks are stored; LinkSearchService loads the matching page from the database.
+ */
+class LinkSearchIndex {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final TreeMap<String, Set<Long>> postings = new TreeMap<>();
+    private final Map<Long, Set<String>> tokensById = new HashMap<>();
+    // Display order; links added after the build go last until the index is rebuilt
+    private final Map<Long, Long> rankById = new HashMap<>();
+    private long nextRank;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Built from the user's links in display order
+    static LinkSearchIndex of(List<LinkResponse> links) {
+        LinkSearchIndex index = new LinkSearchIndex();
+        for (LinkResponse link : links) {
+            index.put(link);
+        }
+        return index;
+    }
+
+    // Adds the link, or re-indexes it if it is already present (keeping its rank)
+    void put(LinkResponse link) {
+        lock.writeLock().lock();
+        try {
+            removeTokens(link.id());
+            Set<String> tokens = new HashSet<>();
+            tokenize(link.title(), tokens);
+            tokenize(link.displayDomain(), tokens);
+            tokenize(link.category(), tokens);
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, key -> new HashSet<>()).add(link.id());
+            }
+            tokensById.put(link.id(), tokens);
+            rankById.computeIfAbsent(link.id(), id -> nextRank++);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long linkId) {
+        lock.writeLock().lock();
+        try {
+            removeTokens(linkId);
+            rankById.remove(linkId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Ids of the links matching every query token as a prefix, in display order
+    List<Long> search(String query) {
+        Set<String> queryTokens = new LinkedHashSet<>();
+        tokenize(query, queryTokens);
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<Long> matches = null;
+            for (String token : queryTokens) {
+                Set<Long> tokenMatches = new HashSet<>();
+                for (Set<Long> ids : postings.subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+                    tokenMatches.addAll(ids);
+                }
+                if (matches == null) {
+                    matches = tokenMatches;
+                } else {
+                    matches.retainAll(tokenMatches);
+                }
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Long> ids = new ArrayList<>(matches);
+            ids.sort(Comparator.comparing(rankById::get));
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Cache weight: one unit per indexed link
+    int size() {
+        lock.readLock().lock();
+        try {
+            return tokensById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeTokens(Long linkId) {
+        Set<String> tokens = tokensById.remove(linkId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Set<Long> ids = postings.get(token);
+            ids.remove(linkId);
+            if (ids.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    static void tokenize(String text, Set<String> into) {
+        if (text == null) {
+            return;
+        }
+        for (String token : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                into.add(token);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.linknest.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linknest.api.dto.LinkResponse;
+import com.linknest.api.dto.LinkSearchResult;
+import com.linknest.api.repository.LinkRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+Search over a user's links (title, domain, category) with prefix matching. Each
+user's LinkSearchIndex is built on their first search and then kept current by
+linkSaved / linkDeleted from the single-link endpoints; bulk changes and reorders
+drop it instead. Indexes are held in a cache weighed by link count, so memory is
+bounded and cold users' indexes are evicted first. Only a page of ids comes from
+the index; the links themselves are read from the database so counters are fresh.
+ */
+@Service
+public class LinkSearchService {
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    // Total links across all cached indexes
+    @Value("${links.search.max-indexed-links:500000}")
+    private long maxIndexedLinks;
+
+    @Value("${links.search.idle-minutes:30}")
+    private long idleMinutes;
+
+    private Cache<String, LinkSearchIndex> indexes;
+
+    @PostConstruct
+    public void init() {
+        indexes = Caffeine.newBuilder()
+                .maximumWeight(maxIndexedLinks)
+                .weigher((String username, LinkSearchIndex index) -> Math.max(1, index.size()))
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .recordStats()
+                .build();
+    }
+
+    public LinkSearchResult search(String username, String query, int page, int size) {
+        LinkSearchIndex index = indexes.get(username,
+                key -> LinkSearchIndex.of(linkRepository.findResponsesByUsername(key)));
+        List<Long> ids = index.search(query);
+
+        int from = (int) Math.min((long) page * size, ids.size());
+        List<Long> pageIds = ids.subList(from, Math.min(from + size, ids.size()));
+        if (pageIds.isEmpty()) {
+            return new LinkSearchResult(List.of(), page, size, ids.size());
+        }
+
+        // Links deleted since they were indexed simply drop out of the page
+        Map<Long, LinkResponse> byId = linkRepository.findResponsesByIds(pageIds).stream()
+                .collect(Collectors.toMap(LinkResponse::id, Function.identity()));
+        List<LinkResponse> links = pageIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+        return new LinkSearchResult(links, page, size, ids.size());
+    }
+
+    // Called after a link is created or edited. Only updates an index that is already built;
+    // compute waits for an index being built concurrently, so the change is not lost.
+    // Like the other index updates, applied once the caller's transaction commits.
+    public void linkSaved(String username, LinkResponse link) {
+        AfterCommit.run(() -> indexes.asMap().computeIfPresent(username, (key, index) -> {
+            index.put(link);
+            return index;
+        }));
+    }
+
+    public void linkDeleted(String username, Long linkId) {
+        AfterCommit.run(() -> indexes.asMap().computeIfPresent(username, (key, index) -> {
+            index.remove(linkId);
+            return index;
+        }));
+    }
+
+    // Batch changes, imports and reorders: rebuilt on the next search
+    public void invalidate(String username) {
+        AfterCommit.run(() -> indexes.invalidate(username));
+    }
+
+    public Map<String, Object> cacheMetrics() {
+        Map<String, Object> metrics = CacheMetrics.of(indexes);
+        metrics.put("indexedLinks", indexes.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L));
+        return metrics;
+    }
+}
@@ -0,0 +1,48 @@
+package com.linknest.api.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+links.id used to be an IDENTITY column. When links_seq is created on a database
+that already has rows it starts at 1, so it is moved past the highest existing
+id once, before the application starts accepting requests.
+ */
+@Component
+public class LinkSequenceAlignment {
+
+    private static final Logger log = LoggerFactory.getLogger(LinkSequenceAlignment.class);
+
+    // Must match the allocationSize of links_seq on Link
+    private static final long ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void alignLinkSequence() {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM links", Long.class);
+        Long next = jdbcTemplate.queryForObject(
+                dialect.getSequenceSupport().getSequenceNextValString("links_seq"), Long.class);
+
+        // Hibernate's pooled optimizer hands out (value - allocationSize, value], hence the extra block
+        if (maxId != null && next != null && next - ALLOCATION_SIZE < maxId) {
+            long restart = maxId + ALLOCATION_SIZE + 1;
+            jdbcTemplate.execute("ALTER SEQUENCE links_seq RESTART WITH " + restart);
+            log.info("Moved links_seq to {} past existing link ids", restart);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.linknest.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linknest.api.config.JsonWriters;
+import com.linknest.api.config.ReplicaRoutingDataSource;
+import com.linknest.api.dto.LinkResponse;
+import com.linknest.api.dto.PublicProfileResponse;
+import com.linknest.api.dto.PublicProfileView;
+import com.linknest.api.model.User;
+import com.linknest.api.repository.LinkRepository;
+import com.linknest.api.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/*
+In-process cache of the public profile + links payload per username, shared by
+/api/profile/public/{username} and /api/links/public/{username}. Payloads are
+cached already serialized, so a hit costs neither a query nor Jackson.
+
+Every change to a user's links or profile bumps users.content_version and evicts
+the entry, so the version doubles as a strong ETag for the profile, which can be
+checked without loading or serializing anything. Click counts in the link list are
+not versioned: they are refreshed when an entry is reloaded, at least once per TTL.
+The link list ETag therefore adds the total click count the entry was built with,
+so a reload with new clicks changes it; clients see counts up to TTL + max-age old.
+ */
+@Service
+public class PublicProfileService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private JsonWriters jsonWriters;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${public-profile-cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Value("${public-profile-cache.ttl-seconds:60}")
+    private long cacheTtlSeconds;
+
+    private Cache<String, PublicProfileView> cache;
+
+    // Misses read the user and the links in one read-only transaction. It runs on the primary even
+    // with a replica configured: the result is cached for every visitor, and a lagging replica
+    // would put the old content back in the cache right after the owner's change
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    // Throws if the user does not exist (misses are not cached)
+    public PublicProfileView getPublicProfile(String username) {
+        return cache.get(username, key -> ReplicaRoutingDataSource.onPrimary(
+                () -> readOnlyTransaction.execute(status -> load(key))));
+    }
+
+    // Current content version of a public profile, or null if the user is unknown or private.
+    // Cached views answer without a query; otherwise a single scalar column is read.
+    public Long currentVersion(String username) {
+        PublicProfileView cached = cache.getIfPresent(username);
+        if (cached != null) {
+            return cached.isPublic() ? cached.version() : null;
+        }
+        // From the primary too, or a lagging replica would answer 304 for the old version
+        return ReplicaRoutingDataSource.onPrimary(() -> userRepository.findPublicContentVersion(username)).orElse(null);
+    }
+
+    // Must be called after any change to the user's links or profile. The version is bumped in
+    // the caller's transaction; the cached view is only dropped once that transaction commits
+    public void contentChanged(String username) {
+        userRepository.incrementContentVersions(List.of(username));
+        AfterCommit.run(() -> cache.invalidate(username));
+    }
+
+    public Map<String, Object> cacheMetrics() {
+        return CacheMetrics.of(cache);
+    }
+
+    private PublicProfileView load(String username) {
+        // The user row (and its version) is read before the links, so a concurrent
+        // change can only make the cached version older than the content, never newer
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found with username: " + username));
+        long version = user.getContentVersion() != null ? user.getContentVersion() : 0;
+
+        // Private profiles are cached too, but without any of their data
+        if (!user.getIsPublic()) {
+            return new PublicProfileView(false, version, 0, null, null);
+        }
+
+        List<LinkResponse> links = linkRepository.findResponsesByUsername(username);
+        PublicProfileResponse profile = new PublicProfileResponse(user.getUsername(), user.getDisplayName(),
+                user.getBio(), user.getAvatarUrl(), user.getTheme(), links.size());
+
+        long clicks = links.stream().mapToLong(link -> link.clickCount() != null ? link.clickCount() : 0).sum();
+
+        return new PublicProfileView(true, version, clicks,
+                jsonWriters.publicProfile(profile), jsonWriters.linkList(links));
+    }
+}
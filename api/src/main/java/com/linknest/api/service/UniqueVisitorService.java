@@ -0,0 +1,223 @@
+package com.linknest.api.service;
+
+import com.linknest.api.dto.LinkSketchRow;
+import com.linknest.api.dto.UniqueVisitorSummary;
+import com.linknest.api.dto.VisitorBucket;
+import com.linknest.api.model.LinkDayId;
+import com.linknest.api.model.LinkVisitorSketch;
+import com.linknest.api.model.LinkVisitorSketchDaily;
+import com.linknest.api.repository.LinkVisitorSketchDailyRepository;
+import com.linknest.api.repository.LinkVisitorSketchRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/*
+Approximate unique visitors per link. Each click adds a visitor fingerprint (a hash
+of IP address and user agent; neither is stored) to an in-memory HyperLogLog sketch
+for that link and day. A scheduled flush merges the pending sketches into the
+per-day and all-time sketches in the database. Merging is idempotent, so a flush
+that is retried after a failure never double counts. Figures lag by at most one
+flush interval and have a relative standard error of HyperLogLog.RELATIVE_ERROR.
+ */
+@Service
+public class UniqueVisitorService {
+
+    public enum Granularity { DAY, WEEK }
+
+    private static final Logger log = LoggerFactory.getLogger(UniqueVisitorService.class);
+
+    @Autowired
+    private LinkVisitorSketchRepository sketchRepository;
+
+    @Autowired
+    private LinkVisitorSketchDailyRepository dailyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${visitors.daily-retention-days:400}")
+    private int dailyRetentionDays;
+
+    // Sketches with visitors not yet written, keyed by link and day.
+    // compute() and remove() are atomic per key, so no visitor is lost to a concurrent flush.
+    private final Map<LinkDayId, HyperLogLog> pending = new ConcurrentHashMap<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private TransactionTemplate transaction;
+
+    @PostConstruct
+    public void init() {
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    public void recordVisit(Long linkId, String ipAddress, String userAgent) {
+        long fingerprint = fingerprint(ipAddress, userAgent);
+        pending.compute(new LinkDayId(linkId, LocalDate.now()), (key, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog();
+            target.add(fingerprint);
+            return target;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${visitors.flush-interval-ms:60000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<LinkDayId, HyperLogLog> batch = new HashMap<>();
+            for (LinkDayId key : pending.keySet()) {
+                HyperLogLog sketch = pending.remove(key);
+                if (sketch != null) {
+                    batch.put(key, sketch);
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                transaction.executeWithoutResult(status -> write(batch));
+            } catch (Exception e) {
+                // Put the sketches back so the next flush retries them
+                log.error("Failed to flush {} visitor sketches, will retry", batch.size(), e);
+                batch.forEach((key, sketch) -> pending.merge(key, sketch, HyperLogLog::merge));
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    private void write(Map<LinkDayId, HyperLogLog> batch) {
+        Map<LinkDayId, LinkVisitorSketchDaily> daily = dailyRepository.findAllById(batch.keySet()).stream()
+                .collect(Collectors.toMap(LinkVisitorSketchDaily::getId, Function.identity()));
+        Map<Long, HyperLogLog> allTimeDeltas = new HashMap<>();
+        List<LinkVisitorSketchDaily> dailyRows = new ArrayList<>(batch.size());
+        batch.forEach((key, sketch) -> {
+            LinkVisitorSketchDaily row = daily.get(key);
+            if (row == null) {
+                row = new LinkVisitorSketchDaily();
+                row.setId(key);
+                row.setSketch(sketch.toBytes());
+            } else {
+                row.setSketch(HyperLogLog.fromBytes(row.getSketch()).merge(sketch).toBytes());
+            }
+            dailyRows.add(row);
+            allTimeDeltas.merge(key.getLinkId(), sketch.copy(), HyperLogLog::merge);
+        });
+        dailyRepository.saveAll(dailyRows);
+
+        Map<Long, LinkVisitorSketch> allTime = sketchRepository.findAllById(allTimeDeltas.keySet()).stream()
+                .collect(Collectors.toMap(LinkVisitorSketch::getLinkId, Function.identity()));
+        List<LinkVisitorSketch> allTimeRows = new ArrayList<>(allTimeDeltas.size());
+        allTimeDeltas.forEach((linkId, sketch) -> {
+            LinkVisitorSketch row = allTime.get(linkId);
+            if (row == null) {
+                row = new LinkVisitorSketch();
+                row.setLinkId(linkId);
+                row.setSketch(sketch.toBytes());
+            } else {
+                row.setSketch(HyperLogLog.fromBytes(row.getSketch()).merge(sketch).toBytes());
+            }
+            allTimeRows.add(row);
+        });
+        sketchRepository.saveAll(allTimeRows);
+    }
+
+    // Per link, per category and overall; categories and the total are sketch unions, not sums,
+    // so a visitor of several links is counted once
+    @Transactional(readOnly = true)
+    public UniqueVisitorSummary summarize(String username) {
+        HyperLogLog total = new HyperLogLog();
+        Map<Long, Long> byLink = new LinkedHashMap<>();
+        Map<String, HyperLogLog> categories = new HashMap<>();
+        try (Stream<LinkSketchRow> rows = sketchRepository.streamByUsername(username)) {
+            rows.forEach(row -> {
+                HyperLogLog sketch = HyperLogLog.fromBytes(row.sketch());
+                byLink.put(row.linkId(), sketch.estimate());
+                String category = row.category() != null ? row.category() : "Other";
+                categories.computeIfAbsent(category, c -> new HyperLogLog()).merge(sketch);
+                total.merge(sketch);
+            });
+        }
+
+        Map<String, Long> byCategory = new HashMap<>();
+        categories.forEach((category, sketch) -> byCategory.put(category, sketch.estimate()));
+        return new UniqueVisitorSummary(total.estimate(), byLink, byCategory, HyperLogLog.RELATIVE_ERROR);
+    }
+
+    // The last `periods` days or weeks (Monday-based) up to and including the current one.
+    // Weeks are unions of their daily sketches.
+    @Transactional(readOnly = true)
+    public List<VisitorBucket> series(Long linkId, Granularity granularity, int periods) {
+        LocalDate today = LocalDate.now();
+        LocalDate current = granularity == Granularity.WEEK ? today.with(DayOfWeek.MONDAY) : today;
+        int daysPerBucket = granularity == Granularity.WEEK ? 7 : 1;
+        LocalDate from = current.minusDays((long) (periods - 1) * daysPerBucket);
+
+        Map<LocalDate, HyperLogLog> buckets = new LinkedHashMap<>();
+        for (LocalDate start = from; !start.isAfter(current); start = start.plusDays(daysPerBucket)) {
+            buckets.put(start, new HyperLogLog());
+        }
+        for (LinkVisitorSketchDaily row : dailyRepository.findByLinkAndDays(linkId, from, today)) {
+            LocalDate day = row.getId().getDay();
+            LocalDate start = granularity == Granularity.WEEK ? day.with(DayOfWeek.MONDAY) : day;
+            buckets.get(start).merge(HyperLogLog.fromBytes(row.getSketch()));
+        }
+
+        List<VisitorBucket> series = new ArrayList<>(buckets.size());
+        buckets.forEach((start, sketch) -> series.add(new VisitorBucket(start, sketch.estimate())));
+        return series;
+    }
+
+    // Daily sketches are only needed for day/week charts; all-time sketches of deleted links go too
+    @Scheduled(cron = "${visitors.retention-cron:0 45 3 * * *}")
+    @Transactional
+    public void applyRetention() {
+        int daily = dailyRepository.deleteOlderThan(LocalDate.now().minusDays(dailyRetentionDays));
+        int orphaned = sketchRepository.deleteOrphaned();
+        log.info("Visitor sketch retention removed {} daily and {} orphaned sketches", daily, orphaned);
+    }
+
+    // 64 bits of SHA-256 over IP and user agent: uniformly distributed, and not reversible from the sketch
+    static long fingerprint(String ipAddress, String userAgent) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((ipAddress + "|" + (userAgent != null ? userAgent : ""))
+                    .getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(hash).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
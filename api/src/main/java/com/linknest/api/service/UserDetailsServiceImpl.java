@@ -1,37 +1,94 @@
 package com.linknest.api.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.linknest.api.model.User;
 import com.linknest.api.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Value("${user-cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Value("${user-cache.ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    // username -> the fields needed to authenticate, so most requests skip the database
+    private Cache<String, CachedUser> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+    }
+
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        // A new UserDetails is built on every call: Spring Security erases the password
+        // on the returned object after login, so the cached value must stay immutable
+        return cache.get(username, this::loadFromDatabase).toUserDetails();
+    }
+
+    // Called by Spring Security after a successful login when the stored hash uses an older
+    // BCrypt cost than the configured one; newPassword is already encoded
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        evict(user.getUsername());
+        return new CachedUser(user.getUsername(), newPassword, Boolean.TRUE.equals(user.getIsAdmin())).toUserDetails();
+    }
+
+    // Must be called whenever a user's credentials, role or profile change; inside a
+    // transaction the entry is dropped after commit
+    public void evict(String username) {
+        AfterCommit.run(() -> cache.invalidate(username));
+    }
+
+    public Map<String, Object> cacheMetrics() {
+        return CacheMetrics.of(cache);
+    }
+
+    private CachedUser loadFromDatabase(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + username));
+        return new CachedUser(user.getUsername(), user.getPassword(), Boolean.TRUE.equals(user.getIsAdmin()));
+    }
 
-        // Converts our User entity into a UserDetails object that Spring Security understands
-        List<GrantedAuthority> authorities = new ArrayList<>();
-        if (Boolean.TRUE.equals(user.getIsAdmin())) {
-            authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+    private record CachedUser(String username, String password, boolean isAdmin) {
+        UserDetails toUserDetails() {
+            // Converts our User entity into a UserDetails object that Spring Security understands
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            if (isAdmin) {
+                authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+            }
+            return new org.springframework.security.core.userdetails.User(username, password, authorities);
         }
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(), user.getPassword(), authorities);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package com.linknest.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linknest.api.dto.DailyCount;
+import com.linknest.api.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+Registration counts for the admin growth chart. The database groups users per
+day over idx_users_created_at; weeks and months are rolled up from those daily
+rows, so the work in Java is bounded by the window length, not the user count.
+ */
+@Service
+public class UserGrowthService {
+
+    public enum Bucket { DAY, WEEK, MONTH }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // The dashboard polls this endpoint; a short cache avoids re-running the query every time
+    @Value("${admin.growth-cache-seconds:60}")
+    private long cacheSeconds;
+
+    private Cache<GrowthKey, List<Map<String, Object>>> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(64)
+                .expireAfterWrite(Duration.ofSeconds(cacheSeconds))
+                .build();
+    }
+
+    // One entry per bucket in the last `days` days (today included), empty buckets count 0
+    public List<Map<String, Object>> growth(int days, Bucket bucket) {
+        return cache.get(new GrowthKey(days, bucket), key -> computeGrowth(key.days(), key.bucket()));
+    }
+
+    private List<Map<String, Object>> computeGrowth(int days, Bucket bucket) {
+        LocalDate today = LocalDate.now();
+        LocalDate firstDay = today.minusDays(days - 1L);
+
+        // Pre-fill every bucket so days without registrations still show up
+        Map<LocalDate, Long> counts = new LinkedHashMap<>();
+        for (LocalDate day = firstDay; !day.isAfter(today); day = day.plusDays(1)) {
+            counts.putIfAbsent(bucketStart(day, bucket), 0L);
+        }
+        for (DailyCount row : userRepository.countRegistrationsPerDay(firstDay.atStartOfDay())) {
+            counts.merge(bucketStart(row.day(), bucket), row.count(), Long::sum);
+        }
+
+        List<Map<String, Object>> series = new ArrayList<>(counts.size());
+        counts.forEach((date, count) -> {
+            Map<String, Object> data = new HashMap<>();
+            data.put("date", date.toString());
+            data.put("count", count);
+            series.add(data);
+        });
+        return series;
+    }
+
+    private static LocalDate bucketStart(LocalDate day, Bucket bucket) {
+        return switch (bucket) {
+            case DAY -> day;
+            case WEEK -> day.with(DayOfWeek.MONDAY);
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    private record GrowthKey(int days, Bucket bucket) {
+    }
+}
@@ -0,0 +1,28 @@
+-- Schema as first created by Hibernate (ddl-auto=update) from the original User and Link entities.
+-- Databases that already have these tables are baselined at this version instead of running it.
+
+CREATE TABLE users (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username      VARCHAR(255) NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    display_name  VARCHAR(255),
+    bio           VARCHAR(500),
+    avatar_url    VARCHAR(255),
+    theme         VARCHAR(20),
+    is_public     BOOLEAN,
+    is_admin      BOOLEAN,
+    created_at    TIMESTAMP(6),
+    CONSTRAINT uk_users_username UNIQUE (username)
+);
+
+CREATE TABLE links (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title         VARCHAR(255) NOT NULL,
+    url           VARCHAR(255) NOT NULL,
+    category      VARCHAR(50),
+    click_count   BIGINT,
+    last_clicked  TIMESTAMP(6),
+    created_at    TIMESTAMP(6),
+    user_id       BIGINT NOT NULL,
+    CONSTRAINT fk_links_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
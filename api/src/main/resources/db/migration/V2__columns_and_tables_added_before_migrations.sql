@@ -0,0 +1,49 @@
+-- Everything ddl-auto=update added after the baseline. Written with IF NOT EXISTS so it is a
+-- no-op on databases where Hibernate already created these objects.
+
+-- Link ids come from a pooled sequence (LinkSequenceAlignment moves it past existing ids)
+CREATE SEQUENCE IF NOT EXISTS links_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE links ADD COLUMN IF NOT EXISTS display_domain VARCHAR(255);
+ALTER TABLE links ADD COLUMN IF NOT EXISTS favicon_url VARCHAR(512);
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS content_version BIGINT;
+CREATE INDEX IF NOT EXISTS idx_users_created_at ON users (created_at);
+
+CREATE TABLE IF NOT EXISTS click_events (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    link_id        BIGINT NOT NULL,
+    clicked_at     TIMESTAMP(6) NOT NULL,
+    referrer_hash  INTEGER,
+    country        VARCHAR(2)
+);
+CREATE INDEX IF NOT EXISTS idx_click_events_clicked_at ON click_events (clicked_at);
+CREATE INDEX IF NOT EXISTS idx_click_events_link_clicked_at ON click_events (link_id, clicked_at);
+
+-- Rollups and sketches are read per link over a time range, so link_id leads the key
+CREATE TABLE IF NOT EXISTS click_rollups_hourly (
+    link_id       BIGINT NOT NULL,
+    bucket_start  TIMESTAMP(6) NOT NULL,
+    clicks        BIGINT NOT NULL,
+    PRIMARY KEY (link_id, bucket_start)
+);
+
+CREATE TABLE IF NOT EXISTS click_rollups_daily (
+    link_id       BIGINT NOT NULL,
+    bucket_start  TIMESTAMP(6) NOT NULL,
+    clicks        BIGINT NOT NULL,
+    PRIMARY KEY (link_id, bucket_start)
+);
+
+-- HyperLogLog registers (1024 bytes); BYTEA is an H2 alias for VARBINARY
+CREATE TABLE IF NOT EXISTS link_visitor_sketches (
+    link_id  BIGINT NOT NULL PRIMARY KEY,
+    sketch   BYTEA NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS link_visitor_sketches_daily (
+    link_id    BIGINT NOT NULL,
+    visit_day  DATE NOT NULL,
+    sketch     BYTEA NOT NULL,
+    PRIMARY KEY (link_id, visit_day)
+);
@@ -0,0 +1,9 @@
+-- Indexes for the per-request queries in LinkRepository and UserRepository.
+-- QueryPlanTest fails if one of those queries stops using them.
+
+-- A user's links in id order (profile, public page, exports, counts); PostgreSQL does not
+-- index foreign keys on its own
+CREATE INDEX IF NOT EXISTS idx_links_user_id ON links (user_id, id);
+
+-- Top links: read in order from the index and stop after the page
+CREATE INDEX IF NOT EXISTS idx_links_user_clicks ON links (user_id, click_count DESC NULLS LAST, id);
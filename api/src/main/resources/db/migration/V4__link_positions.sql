@@ -0,0 +1,11 @@
+-- User-defined link order. Positions are spaced LinkOrderService.GAP apart so a move writes
+-- only the moved row (the midpoint of its new neighbours). Existing links keep their id order.
+ALTER TABLE links ADD COLUMN IF NOT EXISTS position BIGINT;
+UPDATE links SET position = id * 1024 WHERE position IS NULL;
+ALTER TABLE links ALTER COLUMN position SET NOT NULL;
+
+-- A user's links in display order, and the neighbour lookups of a move
+CREATE INDEX IF NOT EXISTS idx_links_user_position ON links (user_id, position, id);
+
+-- Lists are read in position order now; the new index also serves the user_id foreign key
+DROP INDEX IF EXISTS idx_links_user_id;
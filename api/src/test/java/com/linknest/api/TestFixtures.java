@@ -0,0 +1,50 @@
+package com.linknest.api;
+
+import com.linknest.api.model.Link;
+import com.linknest.api.model.User;
+import com.linknest.api.repository.LinkRepository;
+import com.linknest.api.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/*
+Users and links for the @DataJpaTest classes; add it to the test's @Import.
+Required fields get their defaults here, so a new column only needs one change.
+Rows are flushed so JDBC statements and native queries in the test see them.
+ */
+@TestComponent
+public class TestFixtures {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    public User saveUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("encodedPassword");
+        return userRepository.saveAndFlush(user);
+    }
+
+    // Category "Other" and the entity's default position and click count
+    public Link saveLink(User user, String title) {
+        return saveLink(user, title, link -> { });
+    }
+
+    // Same defaults, adjusted by the test before the link is saved
+    public Link saveLink(User user, String title, Consumer<Link> customizer) {
+        Link link = new Link();
+        link.setTitle(title);
+        link.setUrl("https://example.com/" + user.getUsername() + "/"
+                + title.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-"));
+        link.setCategory("Other");
+        link.setUser(user);
+        customizer.accept(link);
+        return linkRepository.saveAndFlush(link);
+    }
+}
@@ -0,0 +1,101 @@
+package com.linknest.api.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private DataSource target;
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new ConcurrencyLimitedDataSource(target, 2, 50);
+    }
+
+    // Only maxConcurrent connections can be open; the next caller times out
+    @Test
+    void getConnection_AllPermitsInUse_ShouldTimeOut() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        assertEquals(2, dataSource.metrics().get("inUse"));
+    }
+
+    // Closing a connection gives its permit back, and closing twice does not give back two
+    @Test
+    void close_ShouldReleasePermitOnce() throws SQLException {
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        first.close();
+        first.close();
+
+        assertNotNull(dataSource.getConnection());
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        second.close();
+    }
+
+    @Test
+    void getConnection_TargetFails_ShouldReleasePermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+        assertEquals(0, dataSource.metrics().get("inUse"));
+    }
+
+    // Spring compares connection holders by equals, so a connection must equal itself
+    @Test
+    void connection_ShouldUseProxyIdentity() throws SQLException {
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        assertEquals(first, first);
+        assertNotEquals(first, second);
+        assertEquals(System.identityHashCode(first), first.hashCode());
+    }
+
+    // Admin metrics find the limits behind the lazy proxy and the replica router
+    @Test
+    void metricsBehind_ShouldUnwrapProxyAndRouter() {
+        ConcurrencyLimitedDataSource replica = new ConcurrencyLimitedDataSource(mock(DataSource.class), 3, 50);
+        DataSource routed = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(dataSource, replica, Duration.ofSeconds(1), 10));
+
+        Map<String, Object> metrics = ConcurrencyLimitedDataSource.metricsBehind(routed);
+
+        assertEquals(List.of("primary", "replica"), List.copyOf(metrics.keySet()));
+        assertEquals(dataSource.metrics(), metrics.get("primary"));
+        assertEquals(Map.of(), ConcurrencyLimitedDataSource.metricsBehind(target));
+    }
+
+    // Other calls go to the real connection
+    @Test
+    void connection_ShouldDelegateOtherMethods() throws SQLException {
+        Connection real = mock(Connection.class);
+        when(real.getAutoCommit()).thenReturn(false);
+        when(target.getConnection()).thenReturn(real);
+
+        Connection connection = dataSource.getConnection();
+        connection.setReadOnly(true);
+
+        assertFalse(connection.getAutoCommit());
+        verify(real).setReadOnly(true);
+    }
+}
@@ -0,0 +1,37 @@
+package com.linknest.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataSourceConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(DataSourceConfig.class)
+            .withBean("dataSource", HikariDataSource.class, () -> {
+                HikariDataSource hikari = new HikariDataSource();
+                hikari.setMaximumPoolSize(7);
+                return hikari;
+            })
+            .withPropertyValues("db.concurrency-limit.enabled=true");
+
+    // Left unset (as application.properties does without DB_MAX_CONCURRENT), the cap is the pool size
+    @Test
+    void concurrencyLimit_Unset_ShouldDefaultToPoolSize() {
+        runner.withPropertyValues("db.concurrency-limit.max-concurrent=").run(context -> {
+            DataSource dataSource = context.getBean(DataSource.class);
+            assertInstanceOf(ConcurrencyLimitedDataSource.class, dataSource);
+            assertEquals(7, ((ConcurrencyLimitedDataSource) dataSource).metrics().get("maxConcurrent"));
+        });
+    }
+
+    @Test
+    void concurrencyLimit_BelowPoolSize_ShouldFailStartup() {
+        runner.withPropertyValues("db.concurrency-limit.max-concurrent=5")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+}
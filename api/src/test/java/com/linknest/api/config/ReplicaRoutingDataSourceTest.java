@@ -0,0 +1,128 @@
+package com.linknest.api.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two in-memory H2 databases stand in for the primary and the replica; each knows its own name
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private ReplicaRoutingDataSource router;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        useRouter(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        new JdbcTemplate(primary).execute("DROP TABLE node");
+        new JdbcTemplate(replica).execute("DROP TABLE node");
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica() {
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+        assertEquals(1L, router.metrics().get("replicaConnections"));
+    }
+
+    @Test
+    void readWriteTransaction_ShouldUsePrimary() {
+        assertEquals("primary", readWrite.execute(status -> currentNode()));
+    }
+
+    // Statements outside a transaction (e.g. open-in-view lazy loads) are not read-only
+    @Test
+    void noTransaction_ShouldUsePrimary() {
+        assertEquals("primary", currentNode());
+    }
+
+    // After writing, the same user reads from the primary; other users still use the replica
+    @Test
+    void readAfterOwnWrite_ShouldStickToPrimaryForThatUser() {
+        authenticate("alice");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+        assertEquals(1L, router.metrics().get("stickyPrimaryReads"));
+
+        authenticate("bob");
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    void readAfterOwnWrite_WindowElapsed_ShouldUseReplica() {
+        useRouter(Duration.ZERO);
+        authenticate("alice");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    // Anonymous writes (e.g. click flushes) never pin anyone to the primary
+    @Test
+    void anonymousWrite_ShouldNotStick() {
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+        assertEquals(0L, router.metrics().get("recentWriters"));
+    }
+
+    // Shared-cache loads read the primary even in a read-only transaction, and do not pin the user
+    @Test
+    void onPrimary_ShouldUsePrimaryWithoutSticking() {
+        authenticate("alice");
+
+        assertEquals("primary", ReplicaRoutingDataSource.onPrimary(() -> readOnly.execute(status -> currentNode())));
+        assertNotEquals(0L, router.metrics().get("pinnedPrimaryReads"));
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    private void useRouter(Duration stickyWindow) {
+        router = new ReplicaRoutingDataSource(primary, replica, stickyWindow, 100);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(router);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, AuthorityUtils.NO_AUTHORITIES));
+    }
+}
@@ -0,0 +1,32 @@
+package com.linknest.api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.NestedExceptionUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadsConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(VirtualThreadsConfig.class);
+
+    // The flag is honoured on Java 21+ and stops startup on older runtimes instead of being ignored
+    @Test
+    void virtualThreadsEnabled_ShouldRequireJava21() {
+        runner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            if (Runtime.version().feature() >= 21) {
+                assertNull(context.getStartupFailure());
+            } else {
+                Throwable cause = NestedExceptionUtils.getMostSpecificCause(context.getStartupFailure());
+                assertInstanceOf(IllegalStateException.class, cause);
+                assertTrue(cause.getMessage().contains("Java 21"));
+            }
+        });
+    }
+
+    @Test
+    void virtualThreadsDisabled_ShouldStart() {
+        runner.run(context -> assertNull(context.getStartupFailure()));
+    }
+}
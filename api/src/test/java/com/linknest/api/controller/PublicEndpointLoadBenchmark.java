@@ -0,0 +1,158 @@
+package com.linknest.api.controller;
+
+import com.linknest.api.ApiApplication;
+import com.linknest.api.model.Link;
+import com.linknest.api.model.User;
+import com.linknest.api.repository.LinkRepository;
+import com.linknest.api.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+Closed-loop load test of the public profile endpoints through the real server:
+CLIENTS concurrent clients each send requests back to back for DURATION and the
+test reports throughput and p50/p99 latency. The profile cache TTL is cut to one
+second so a steady share of requests misses the cache and reaches the database.
+
+The app is started once per request execution mode (platform or virtual threads,
+with and without the connection concurrency limit) and the results are printed
+side by side. Virtual-thread modes need a Java 21 runtime and are skipped on 17:
+  mvn test -Pbenchmark -Dtest=PublicEndpointLoadBenchmark
+ */
+@Tag("benchmark")
+class PublicEndpointLoadBenchmark {
+
+    private static final int USERS = 200;
+    private static final int LINKS_PER_USER = 20;
+    private static final int CLIENTS = 256;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration DURATION = Duration.ofSeconds(15);
+
+    private record Mode(String name, boolean virtualThreads, boolean dbLimit) {
+    }
+
+    private static final List<Mode> MODES = List.of(
+            new Mode("platform threads", false, false),
+            new Mode("platform threads + db limit", false, true),
+            new Mode("virtual threads, no db limit", true, false),
+            new Mode("virtual threads + db limit", true, true));
+
+    @Test
+    void publicEndpointsUnderLoad() throws Exception {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (Mode mode : MODES) {
+            if (mode.virtualThreads() && Runtime.version().feature() < 21) {
+                System.out.println("Skipping '" + mode.name() + "': needs Java 21, running on " + Runtime.version());
+                continue;
+            }
+            results.put(mode.name(), run(mode));
+        }
+
+        System.out.printf("Public endpoints, %d clients, Java %s%n", CLIENTS, Runtime.version());
+        results.forEach((name, result) -> System.out.printf("  %-30s %s%n", name, result));
+        results.forEach((name, result) -> assertEquals(0, result.errors(), name + ": all requests should succeed"));
+    }
+
+    private Result run(Mode mode) throws InterruptedException {
+        // Passed as arguments: they must win over application.properties
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadbench" + MODES.indexOf(mode) + ";DB_CLOSE_DELAY=-1",
+                "--public-profile-cache.ttl-seconds=1",
+                "--spring.threads.virtual.enabled=" + mode.virtualThreads(),
+                "--db.concurrency-limit.enabled=" + mode.dbLimit())) {
+            seed(context.getBean(UserRepository.class), context.getBean(LinkRepository.class));
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newFixedThreadPool(16))
+                    .build();
+            load(client, port, WARMUP);
+            return load(client, port, DURATION);
+        }
+    }
+
+    private static void seed(UserRepository userRepository, LinkRepository linkRepository) {
+        for (int u = 0; u < USERS; u++) {
+            User user = new User();
+            user.setUsername("bench" + u);
+            user.setPassword("encodedPassword");
+            userRepository.save(user);
+            List<Link> links = new ArrayList<>();
+            for (int i = 0; i < LINKS_PER_USER; i++) {
+                Link link = new Link();
+                link.setTitle("Link " + i);
+                link.setUrl("https://www.example" + i + ".com/u" + u);
+                link.setUser(user);
+                link.setPosition(i + 1L);
+                links.add(link);
+            }
+            linkRepository.saveAll(links);
+        }
+    }
+
+    private Result load(HttpClient client, int port, Duration duration) throws InterruptedException {
+        long end = System.nanoTime() + duration.toNanos();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger errors = new AtomicInteger();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        for (int c = 0; c < CLIENTS; c++) {
+            int clientId = c;
+            clients.execute(() -> {
+                List<Long> own = new ArrayList<>();
+                for (int i = 0; System.nanoTime() < end; i++) {
+                    String username = "bench" + ((clientId + i) % USERS);
+                    String path = i % 2 == 0 ? "/api/links/public/" : "/api/profile/public/";
+                    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path + username))
+                            .timeout(Duration.ofSeconds(30))
+                            .build();
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    own.add(System.nanoTime() - start);
+                }
+                latencies.addAll(own);
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Result(sorted.length / (double) duration.toSeconds(),
+                sorted[sorted.length / 2] / 1000, sorted[(int) (sorted.length * 0.99)] / 1000, errors.get());
+    }
+
+    private record Result(double requestsPerSecond, long p50Micros, long p99Micros, int errors) {
+        @Override
+        public String toString() {
+            return String.format("%.0f req/s, p50 %d us, p99 %d us, %d errors",
+                    requestsPerSecond, p50Micros, p99Micros, errors);
+        }
+    }
+}
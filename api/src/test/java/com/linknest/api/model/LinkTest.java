@@ -0,0 +1,38 @@
+package com.linknest.api.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkTest {
+
+    // Setting the url stores the derived display domain and favicon
+    @Test
+    void setUrl_ShouldPrecomputeDomainAndFavicon() {
+        Link link = new Link();
+        link.setUrl("https://www.github.com/yajnesh");
+
+        assertEquals("github.com", link.getDisplayDomain());
+        assertEquals("https://www.github.com/favicon.ico", link.getFaviconUrl());
+    }
+
+    // Unparseable URLs fall back to stripping the scheme and "www."
+    @Test
+    void setUrl_InvalidUri_ShouldFallBackToStringParsing() {
+        Link link = new Link();
+        link.setUrl("https://www.exa mple.com/path");
+
+        assertEquals("exa mple.com", link.getDisplayDomain());
+        assertEquals("https://www.google.com/s2/favicons?domain=exa mple.com", link.getFaviconUrl());
+    }
+
+    // Changing the url recomputes the derived fields
+    @Test
+    void setUrl_ChangedUrl_ShouldRefreshDerivedFields() {
+        Link link = new Link();
+        link.setUrl("https://github.com/yajnesh");
+        link.setUrl("https://linkedin.com/in/yajnesh");
+
+        assertEquals("linkedin.com", link.getDisplayDomain());
+    }
+}
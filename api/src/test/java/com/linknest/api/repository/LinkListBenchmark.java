@@ -0,0 +1,122 @@
+package com.linknest.api.repository;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.linknest.api.dto.LinkResponse;
+import com.linknest.api.model.Link;
+import com.linknest.api.model.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+GET /api/links body cost: entity query + Jackson on Link entities (the previous
+response) versus the constructor-expression query + a reused ObjectWriter.
+Reports response bytes, bytes allocated per request and p50/p99 latency.
+Run with: mvn test -Pbenchmark -Dtest=LinkListBenchmark
+ */
+@Tag("benchmark")
+@DataJpaTest
+class LinkListBenchmark {
+
+    private static final int LINKS = 200;
+    private static final int WARMUP = 300;
+    private static final int ITERATIONS = 2_000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void compareEntityAndDtoResponses() {
+        User user = new User();
+        user.setUsername("bench");
+        user.setPassword("encodedPassword");
+        userRepository.save(user);
+        for (int i = 0; i < LINKS; i++) {
+            Link link = new Link();
+            link.setTitle("Link " + i);
+            link.setUrl("https://www.example" + i + ".com/some/path?ref=" + i);
+            link.setCategory(i % 2 == 0 ? "Work" : "Social");
+            link.setClickCount((long) i);
+            link.setUser(user);
+            linkRepository.save(link);
+        }
+        entityManager.flush();
+
+        ObjectWriter dtoWriter = objectMapper.writerFor(new TypeReference<List<LinkResponse>>() { });
+
+        Result entities = measure(() -> {
+            entityManager.clear();
+            User owner = userRepository.findByUsername("bench").orElseThrow();
+            return write(objectMapper.writer(), linkRepository.findByUser(owner));
+        });
+        Result dtos = measure(() -> {
+            entityManager.clear();
+            return write(dtoWriter, linkRepository.findResponsesByUsername("bench"));
+        });
+
+        System.out.printf("GET /api/links with %d links%n", LINKS);
+        System.out.println("  entities: " + entities);
+        System.out.println("  dtos:     " + dtos);
+        assertEquals(entities.bytes(), dtos.bytes(), "DTO JSON should have the same shape as the entity JSON");
+    }
+
+    private static byte[] write(ObjectWriter writer, Object value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Result measure(Supplier<byte[]> request) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        int bytes = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            bytes = request.get().length;
+        }
+
+        long[] latencies = new long[ITERATIONS];
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            request.get();
+            latencies[i] = System.nanoTime() - start;
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        Arrays.sort(latencies);
+        return new Result(bytes, allocated / ITERATIONS,
+                latencies[ITERATIONS / 2] / 1000, latencies[(int) (ITERATIONS * 0.99)] / 1000);
+    }
+
+    private record Result(int bytes, long allocatedPerRequest, long p50Micros, long p99Micros) {
+        @Override
+        public String toString() {
+            return String.format("%d bytes, %d KB allocated/request, p50 %d us, p99 %d us",
+                    bytes, allocatedPerRequest / 1024, p50Micros, p99Micros);
+        }
+    }
+}
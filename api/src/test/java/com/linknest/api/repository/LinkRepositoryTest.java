@@ -0,0 +1,71 @@
+package com.linknest.api.repository;
+
+import com.linknest.api.TestFixtures;
+import com.linknest.api.dto.CategoryClicks;
+import com.linknest.api.dto.TopLink;
+import com.linknest.api.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(TestFixtures.class)
+class LinkRepositoryTest {
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        User alice = fixtures.saveUser("alice");
+        User bob = fixtures.saveUser("bob");
+        saveLink(alice, "GitHub", "Work", 10L);
+        saveLink(alice, "Blog", null, 3L);
+        saveLink(alice, "LinkedIn", "Work", 7L);
+        saveLink(bob, "Portfolio", "Portfolio", 100L);
+    }
+
+    // Totals only cover the given user's links
+    @Test
+    void analyticsTotals_ShouldAggregatePerUser() {
+        assertEquals(3, linkRepository.countByUserUsername("alice"));
+        assertEquals(20, linkRepository.sumClickCountByUsername("alice"));
+        assertEquals(0, linkRepository.sumClickCountByUsername("nobody"));
+        assertEquals(2, linkRepository.countDistinctUsers());
+    }
+
+    // Top links are ordered by clicks and limited by the page size
+    @Test
+    void findTopLinksByUsername_ShouldReturnMostClickedFirst() {
+        List<TopLink> topLinks = linkRepository.findTopLinksByUsername("alice", PageRequest.of(0, 2));
+
+        assertEquals(List.of("GitHub", "LinkedIn"), topLinks.stream().map(TopLink::title).toList());
+    }
+
+    // Links without a category are reported under "Other"
+    @Test
+    void sumClicksByCategory_ShouldGroupNullCategoryAsOther() {
+        List<CategoryClicks> rows = linkRepository.sumClicksByCategory("alice");
+
+        assertEquals(2, rows.size());
+        assertTrue(rows.contains(new CategoryClicks("Work", 17L)));
+        assertTrue(rows.contains(new CategoryClicks("Other", 3L)));
+    }
+
+    private void saveLink(User user, String title, String category, Long clicks) {
+        fixtures.saveLink(user, title, link -> {
+            link.setCategory(category);
+            link.setClickCount(clicks);
+        });
+    }
+}
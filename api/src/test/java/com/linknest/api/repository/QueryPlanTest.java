@@ -0,0 +1,159 @@
+package com.linknest.api.repository;
+
+import com.linknest.api.TestFixtures;
+import com.linknest.api.model.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Runs the hot LinkRepository / UserRepository queries against the schema built by
+the Flyway migrations, captures the SQL Hibernate sends, and asks H2 for its plan.
+A table scan, or an index read without a condition that is not there for its
+order, means a query no longer matches any index.
+ */
+@DataJpaTest
+@Import(TestFixtures.class)
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.linknest.api.repository.QueryPlanTest$RecordingInspector")
+class QueryPlanTest {
+
+    // H2 prints the index it reads as /* PUBLIC.NAME: CONDITION */, or /* PUBLIC.NAME */ when it reads all of it
+    private static final Pattern UNCONDITIONAL_INDEX = Pattern.compile("/\\* PUBLIC\\.\\w+ \\*/");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        // Enough rows that an index is cheaper than a scan for the planner
+        for (int i = 0; i < 50; i++) {
+            User user = fixtures.saveUser("user" + i);
+            for (int j = 0; j < 5; j++) {
+                fixtures.saveLink(user, "Link " + j);
+            }
+        }
+        alice = fixtures.saveUser("alice");
+        fixtures.saveLink(alice, "GitHub");
+        entityManager.clear();
+    }
+
+    @Test
+    void linksByUser_ShouldUseIndex() {
+        assertIndexed(() -> linkRepository.findByUser(alice));
+        assertIndexed(() -> linkRepository.findResponsesByUsername("alice"));
+        assertIndexed(() -> linkRepository.countByUserUsername("alice"));
+    }
+
+    @Test
+    void linkOrder_ShouldUseIndex() {
+        PageRequest first = PageRequest.of(0, 1);
+        assertIndexed(() -> linkRepository.findIdsInOrder(alice.getId()));
+        assertIndexed(() -> linkRepository.findLastPositions(alice.getId(), first));
+        assertIndexed(() -> linkRepository.findPositionsAfter(alice.getId(), 1024, 1, 2, first));
+        assertIndexed(() -> linkRepository.findPositionById(1L));
+    }
+
+    @Test
+    void linkAnalytics_ShouldUseIndex() {
+        assertIndexed(() -> linkRepository.sumClickCountByUsername("alice"));
+        assertIndexed(() -> linkRepository.findTopLinksByUsername("alice", PageRequest.of(0, 5)));
+        assertIndexed(() -> linkRepository.sumClicksByCategory("alice"));
+    }
+
+    @Test
+    void publicProfile_ShouldUseIndex() {
+        assertIndexed(() -> userRepository.findByUsername("alice"));
+        assertIndexed(() -> userRepository.findPublicContentVersion("alice"));
+    }
+
+    @Test
+    void adminUserQueries_ShouldUseIndex() {
+        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
+        assertIndexed(() -> userRepository.countByCreatedAtAfter(weekAgo));
+        assertIndexed(() -> userRepository.countRegistrationsPerDay(weekAgo));
+        assertIndexed(() -> userRepository.findRecentUsers(PageRequest.of(0, 10)));
+    }
+
+    // Runs the query and checks the plan of every statement it issued
+    private void assertIndexed(Runnable query) {
+        RecordingInspector.STATEMENTS.clear();
+        query.run();
+        List<String> statements = List.copyOf(RecordingInspector.STATEMENTS);
+        assertFalse(statements.isEmpty(), "query did not reach the database");
+
+        for (String sql : statements) {
+            String plan = explain(sql);
+            boolean fullScan = plan.contains(".tableScan")
+                    || (UNCONDITIONAL_INDEX.matcher(plan).find() && !plan.contains("index sorted"));
+            assertFalse(fullScan, () -> "Full scan in plan:\n" + plan);
+        }
+    }
+
+    // Parameters get placeholder values of the right type; H2 plans them like real ones
+    private String explain(String sql) {
+        return jdbcTemplate.execute((java.sql.Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                ParameterMetaData parameters = statement.getParameterMetaData();
+                for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                    switch (parameters.getParameterType(i)) {
+                        case Types.TIMESTAMP -> statement.setTimestamp(i, Timestamp.valueOf(LocalDateTime.now()));
+                        case Types.BIGINT, Types.INTEGER -> statement.setLong(i, 1);
+                        case Types.BOOLEAN -> statement.setBoolean(i, true);
+                        default -> statement.setString(i, "alice");
+                    }
+                }
+                try (ResultSet result = statement.executeQuery()) {
+                    result.next();
+                    return result.getString(1);
+                }
+            }
+        });
+    }
+
+    public static class RecordingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.regionMatches(true, 0, "select", 0, 6)) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
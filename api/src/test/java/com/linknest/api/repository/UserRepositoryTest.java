@@ -0,0 +1,83 @@
+package com.linknest.api.repository;
+
+import com.linknest.api.TestFixtures;
+import com.linknest.api.dto.AdminUserSummary;
+import com.linknest.api.dto.DailyCount;
+import com.linknest.api.dto.RecentUser;
+import com.linknest.api.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(TestFixtures.class)
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        User alice = fixtures.saveUser("alice");
+        fixtures.saveUser("bob");
+        User carol = fixtures.saveUser("carol");
+        fixtures.saveLink(alice, "GitHub");
+        fixtures.saveLink(alice, "Blog");
+        fixtures.saveLink(carol, "Portfolio");
+    }
+
+    // User summaries carry link counts, including zero for users without links
+    @Test
+    void findUserSummaries_ShouldCountLinksPerUser() {
+        List<AdminUserSummary> users = userRepository.findUserSummaries(
+                UserRepositoryCustom.SortKey.USERNAME, false, null, null, 10);
+
+        assertEquals(List.of("alice", "bob", "carol"), users.stream().map(AdminUserSummary::username).toList());
+        assertEquals(List.of(2L, 0L, 1L), users.stream().map(AdminUserSummary::linkCount).toList());
+    }
+
+    // Keyset pagination continues strictly after the cursor, in either direction
+    @Test
+    void findUserSummaries_WithCursor_ShouldReturnNextPage() {
+        List<AdminUserSummary> firstPage = userRepository.findUserSummaries(
+                UserRepositoryCustom.SortKey.ID, true, null, null, 2);
+        Long lastId = firstPage.get(1).id();
+
+        List<AdminUserSummary> secondPage = userRepository.findUserSummaries(
+                UserRepositoryCustom.SortKey.ID, true, lastId, null, 2);
+
+        assertEquals(List.of("carol", "bob"), firstPage.stream().map(AdminUserSummary::username).toList());
+        assertEquals(List.of("alice"), secondPage.stream().map(AdminUserSummary::username).toList());
+    }
+
+    // Recent users come back newest first, one page at a time
+    @Test
+    void findRecentUsers_ShouldReturnNewestFirstPaged() {
+        List<RecentUser> firstPage = userRepository.findRecentUsers(PageRequest.of(0, 2));
+        List<RecentUser> secondPage = userRepository.findRecentUsers(PageRequest.of(1, 2));
+
+        assertEquals(List.of("carol", "bob"), firstPage.stream().map(RecentUser::username).toList());
+        assertEquals(List.of("alice"), secondPage.stream().map(RecentUser::username).toList());
+    }
+
+    // Registrations are grouped per calendar day by the database
+    @Test
+    void countRegistrationsPerDay_ShouldGroupByDay() {
+        List<DailyCount> rows = userRepository.countRegistrationsPerDay(LocalDate.now().atStartOfDay());
+
+        assertEquals(1, rows.size());
+        assertEquals(LocalDate.now(), rows.get(0).day());
+        assertEquals(3L, rows.get(0).count());
+    }
+}
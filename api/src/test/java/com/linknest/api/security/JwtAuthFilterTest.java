@@ -0,0 +1,96 @@
+package com.linknest.api.security;
+
+import com.linknest.api.service.UserDetailsServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthFilterTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Spy
+    private TokenRevocationList tokenRevocationList = new TokenRevocationList();
+
+    @InjectMocks
+    private JwtAuthFilter jwtAuthFilter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtAuthFilter, "statelessAuth", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // Stateless mode builds the principal from the verified claims, without a user lookup
+    @Test
+    void doFilter_StatelessAuth_ShouldAuthenticateFromClaims() throws Exception {
+        when(jwtUtil.verify("admin-token")).thenReturn(claims("yajnesh", true, Instant.now().minusSeconds(60)));
+
+        MockFilterChain chain = new MockFilterChain();
+        jwtAuthFilter.doFilter(request("admin-token"), new MockHttpServletResponse(), chain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertEquals("yajnesh", ((UserDetails) authentication.getPrincipal()).getUsername());
+        assertEquals(List.of("ROLE_ADMIN"),
+                authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        assertNotNull(chain.getRequest());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    // After a revocation (e.g. a role change) the old token is refused; logging in again works
+    @Test
+    void doFilter_RevokedUser_ShouldRejectOldTokenAndAcceptNewLogin() throws Exception {
+        when(jwtUtil.verify("old-token")).thenReturn(claims("yajnesh", true, Instant.now().minusSeconds(60)));
+        tokenRevocationList.revokeAll("yajnesh");
+
+        jwtAuthFilter.doFilter(request("old-token"), new MockHttpServletResponse(), new MockFilterChain());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+        // "iat" has second precision, so the new login is issued in a later second than the revocation
+        when(jwtUtil.verify("new-token")).thenReturn(claims("yajnesh", false, Instant.now().plusSeconds(1)));
+
+        jwtAuthFilter.doFilter(request("new-token"), new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertEquals("yajnesh", authentication.getName());
+        assertTrue(authentication.getAuthorities().isEmpty());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/links");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private static VerifiedClaims claims(String username, boolean isAdmin, Instant issuedAt) {
+        return new VerifiedClaims(username, isAdmin, issuedAt, issuedAt.plusSeconds(3600));
+    }
+}
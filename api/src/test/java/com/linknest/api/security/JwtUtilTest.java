@@ -20,6 +20,7 @@ class JwtUtilTest {
         jwtUtil = new JwtUtil();
         ReflectionTestUtils.setField(jwtUtil, "secret", TEST_SECRET);
         ReflectionTestUtils.setField(jwtUtil, "expiration", 86400L); // 1 day
+        jwtUtil.init();
     }
 
     // Test 1: Token is generated and username can be extracted back
@@ -112,4 +113,35 @@ class JwtUtilTest {
         assertThrows(Exception.class, () -> jwtUtil.validateToken(tamperedToken),
                 "A tampered token should throw an exception");
     }
+
+    // Test 7: verify() returns subject, admin flag and expiry from a single parse
+    @Test
+    void verify_ValidToken_ShouldReturnAllClaims() {
+        User adminUser = new User();
+        adminUser.setUsername("admin");
+        adminUser.setPassword("encodedPassword");
+        adminUser.setIsAdmin(true);
+
+        VerifiedClaims claims = jwtUtil.verify(jwtUtil.generateToken(adminUser));
+
+        assertEquals("admin", claims.subject());
+        assertTrue(claims.isAdmin());
+        assertTrue(claims.expiresAt().isAfter(java.time.Instant.now()),
+                "Expiry should be in the future for a fresh token");
+    }
+
+    // Test 8: verify() rejects a tampered token
+    @Test
+    void verify_TamperedToken_ShouldThrowException() {
+        User user = new User();
+        user.setUsername("yajnesh");
+        user.setPassword("encodedPassword");
+        user.setIsAdmin(false);
+
+        String validToken = jwtUtil.generateToken(user);
+        String tamperedToken = validToken.substring(0, validToken.length() - 5) + "XXXXX";
+
+        assertThrows(Exception.class, () -> jwtUtil.verify(tamperedToken),
+                "A tampered token should throw an exception");
+    }
 }
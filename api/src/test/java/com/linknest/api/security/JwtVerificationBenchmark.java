@@ -0,0 +1,114 @@
+package com.linknest.api.security;
+
+import com.linknest.api.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+Per-request token verification cost, before and after caching the key and parser.
+"Before" is a copy of the code that ran per request before that change: the filter
+called validateToken (isTokenExpired -> extractExpiration -> extractAllClaims) and
+then extractUsername (extractAllClaims again), and every extractAllClaims rebuilt
+the signing key and the parser. "After" is what JwtAuthFilter does now: one verify
+plus the in-memory revocation check. The user lookup that followed is the same in
+both and left out.
+Run with: mvn test -Pbenchmark -Dtest=JwtVerificationBenchmark
+ */
+@Tag("benchmark")
+class JwtVerificationBenchmark {
+
+    private static final String SECRET =
+            "testSecretKeyForUnitTestingOnlyDoNotUseInProductionXYZ0123456789AB";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    @Test
+    void compareVerificationCost() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86400L);
+        jwtUtil.init();
+        TokenRevocationList revocationList = new TokenRevocationList();
+
+        User user = new User();
+        user.setUsername("bench");
+        user.setIsAdmin(true);
+        String token = jwtUtil.generateToken(user);
+
+        BaselineJwtUtil baseline = new BaselineJwtUtil();
+        assertEquals("bench", baseline.filterRequest(token));
+        assertEquals(2, baseline.parses, "the baseline filter parsed each token twice");
+
+        double before = measure(() -> baseline.filterRequest(token));
+        double after = measure(() -> {
+            VerifiedClaims claims = jwtUtil.verify(token);
+            return revocationList.isRevoked(claims) ? null : claims.subject();
+        });
+
+        System.out.printf("JWT verification per request: before %.0f ns, after %.0f ns (%.1fx)%n",
+                before, after, before / after);
+        assertEquals("bench", jwtUtil.verify(token).subject());
+    }
+
+    // The JwtUtil methods the filter used before the change, with the same call structure
+    private static class BaselineJwtUtil {
+
+        int parses;
+
+        // JwtAuthFilter: if (jwt != null && jwtUtil.validateToken(jwt)) { username = jwtUtil.extractUsername(jwt); ... }
+        String filterRequest(String token) {
+            return validateToken(token) ? extractUsername(token) : null;
+        }
+
+        String extractUsername(String token) {
+            return extractAllClaims(token).getSubject();
+        }
+
+        Boolean validateToken(String token) {
+            return !isTokenExpired(token);
+        }
+
+        private Boolean isTokenExpired(String token) {
+            return extractExpiration(token).before(new Date());
+        }
+
+        private Date extractExpiration(String token) {
+            return extractAllClaims(token).getExpiration();
+        }
+
+        private SecretKey getSigningKey() {
+            byte[] keyBytes = SECRET.getBytes();
+            return Keys.hmacShaKeyFor(keyBytes);
+        }
+
+        private Claims extractAllClaims(String token) {
+            parses++;
+            return Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        }
+    }
+
+    private double measure(Supplier<String> request) {
+        for (int i = 0; i < WARMUP; i++) {
+            request.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            request.get();
+        }
+        return (System.nanoTime() - start) / (double) ITERATIONS;
+    }
+}
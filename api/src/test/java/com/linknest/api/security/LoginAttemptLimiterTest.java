@@ -0,0 +1,116 @@
+package com.linknest.api.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginAttemptLimiterTest {
+
+    private LoginAttemptLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new LoginAttemptLimiter();
+        ReflectionTestUtils.setField(limiter, "maxFailuresPerUsername", 3);
+        ReflectionTestUtils.setField(limiter, "maxFailuresPerAccount", 10);
+        ReflectionTestUtils.setField(limiter, "maxFailuresPerIp", 5);
+        ReflectionTestUtils.setField(limiter, "windowSeconds", 900L);
+        ReflectionTestUtils.setField(limiter, "maxKeys", 1000L);
+        limiter.init();
+    }
+
+    // Usernames are compared case-insensitively so casing cannot bypass the limit
+    @Test
+    void tryAcquire_AfterUsernameFailures_ShouldBlockThatUsernameFromThatIp() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire("alice", "10.0.0.1"));
+        }
+
+        assertFalse(limiter.tryAcquire("Alice", "10.0.0.1"));
+        assertTrue(limiter.tryAcquire("bob", "10.0.0.1"));
+        assertEquals(1L, limiter.metrics().get("rejected"));
+    }
+
+    // A few failures sent by someone else never lock the account for its owner
+    @Test
+    void tryAcquire_FailuresFromOtherIps_ShouldNotLockAccount() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire("admin", "10.0.0." + i));
+        }
+
+        assertTrue(limiter.tryAcquire("admin", "192.168.1.10"));
+    }
+
+    // Guesses against one account spread over many IPs still hit the per-account limit
+    @Test
+    void tryAcquire_AfterAccountFailuresFromManyIps_ShouldBlockAccount() {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire("admin", "10.0.0." + i));
+        }
+
+        assertFalse(limiter.tryAcquire("admin", "192.168.1.10"));
+        assertTrue(limiter.tryAcquire("bob", "192.168.1.10"));
+    }
+
+    // One IP trying many usernames is blocked for all of them
+    @Test
+    void tryAcquire_AfterIpFailures_ShouldBlockThatIp() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire("user" + i, "10.0.0.1"));
+        }
+
+        assertFalse(limiter.tryAcquire("someone", "10.0.0.1"));
+        assertTrue(limiter.tryAcquire("someone", "10.0.0.2"));
+    }
+
+    // A parallel burst reserves its attempts before any password check, so only the limit gets through
+    @Test
+    void tryAcquire_ParallelBurst_ShouldAdmitOnlyTheLimit() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Boolean>> attempts = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                attempts.add(() -> limiter.tryAcquire("alice", "10.0.0.1"));
+            }
+            int admitted = 0;
+            for (Future<Boolean> attempt : executor.invokeAll(attempts)) {
+                admitted += attempt.get() ? 1 : 0;
+            }
+            assertEquals(3, admitted);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void recordSuccess_ShouldResetUsernameFailures() {
+        limiter.tryAcquire("alice", "10.0.0.1");
+        limiter.tryAcquire("alice", "10.0.0.1");
+        limiter.tryAcquire("alice", "10.0.0.1");
+        limiter.recordSuccess("alice", "10.0.0.1");
+        limiter.tryAcquire("alice", "10.0.0.1");
+        limiter.tryAcquire("alice", "10.0.0.1");
+
+        assertTrue(limiter.tryAcquire("alice", "10.0.0.1"));
+    }
+
+    // Attempts that never reached the password check are not failures
+    @Test
+    void release_ShouldGiveTheAttemptBack() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire("user" + i, "10.0.0.1"));
+            limiter.release("user" + i, "10.0.0.1");
+        }
+
+        assertTrue(limiter.tryAcquire("someone", "10.0.0.1"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.linknest.api.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingExecutorTest {
+
+    private PasswordHashingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new PasswordHashingExecutor();
+        ReflectionTestUtils.setField(executor, "threads", 1);
+        ReflectionTestUtils.setField(executor, "queueCapacity", 1);
+        executor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void run_ShouldReturnResultAndRethrowRuntimeExceptions() {
+        assertEquals("hash", executor.run(() -> "hash"));
+        assertThrows(BadCredentialsException.class, () -> executor.run(() -> {
+            throw new BadCredentialsException("Bad credentials");
+        }));
+    }
+
+    // With the pool busy and the queue full, new work is rejected instead of waiting
+    @Test
+    void run_QueueFull_ShouldReject() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread busy = new Thread(() -> executor.run(() -> {
+            running.countDown();
+            await(release);
+            return null;
+        }));
+        busy.start();
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        Thread queued = new Thread(() -> executor.run(() -> null));
+        queued.start();
+        while (executor.metrics().get("queued").equals(0)) {
+            Thread.sleep(5);
+        }
+
+        assertThrows(RejectedExecutionException.class, () -> executor.run(() -> "rejected"));
+
+        release.countDown();
+        busy.join();
+        queued.join();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.linknest.api.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationListTest {
+
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList();
+        ReflectionTestUtils.setField(revocationList, "expiration", 86400L);
+    }
+
+    // Tokens are accepted until the user is revoked
+    @Test
+    void isRevoked_NoRevocation_ShouldReturnFalse() {
+        VerifiedClaims claims = new VerifiedClaims("yajnesh", false,
+                Instant.now().minusSeconds(60), Instant.now().plusSeconds(3600));
+
+        assertFalse(revocationList.isRevoked(claims));
+    }
+
+    // Tokens issued before the revocation are rejected, later ones are accepted
+    @Test
+    void isRevoked_TokenIssuedBeforeRevocation_ShouldReturnTrue() {
+        VerifiedClaims oldToken = new VerifiedClaims("yajnesh", true,
+                Instant.now().minusSeconds(60), Instant.now().plusSeconds(3600));
+
+        revocationList.revokeAll("yajnesh");
+        VerifiedClaims newToken = new VerifiedClaims("yajnesh", false,
+                Instant.now().plusSeconds(2), Instant.now().plusSeconds(3600));
+
+        assertTrue(revocationList.isRevoked(oldToken));
+        assertFalse(revocationList.isRevoked(newToken));
+    }
+
+    // Entries older than the token lifetime are cleaned up
+    @Test
+    void removeExpiredEntries_ShouldDropOutdatedRevocations() {
+        ReflectionTestUtils.setField(revocationList, "expiration", -1L);
+        revocationList.revokeAll("yajnesh");
+
+        revocationList.removeExpiredEntries();
+
+        VerifiedClaims oldToken = new VerifiedClaims("yajnesh", false,
+                Instant.now().minusSeconds(60), Instant.now().plusSeconds(3600));
+        assertFalse(revocationList.isRevoked(oldToken));
+    }
+}
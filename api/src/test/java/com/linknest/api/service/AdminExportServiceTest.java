@@ -0,0 +1,90 @@
+package com.linknest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linknest.api.TestFixtures;
+import com.linknest.api.config.JsonWriters;
+import com.linknest.api.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({AdminExportService.class, JsonWriters.class, JacksonAutoConfiguration.class, TestFixtures.class})
+@TestPropertySource(properties = "admin.export.max-concurrent=1")
+class AdminExportServiceTest {
+
+    @Autowired
+    private AdminExportService adminExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = fixtures.saveUser("alice");
+        bob = fixtures.saveUser("bob");
+        fixtures.saveLink(alice, "GitHub");
+        fixtures.saveLink(alice, "Blog");
+        fixtures.saveLink(bob, "Portfolio");
+    }
+
+    @Test
+    void export_UsersCsv_ShouldIncludeLinkCounts() throws Exception {
+        String[] lines = export(AdminExportService.Dataset.USERS, ExportFormat.CSV, 1, Long.MAX_VALUE).split("\n");
+
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].startsWith(alice.getId() + ",alice,"));
+        assertTrue(lines[1].endsWith(",2"));
+        assertTrue(lines[2].endsWith(",1"));
+    }
+
+    // Resuming from an id skips everything already received
+    @Test
+    void export_IdRange_ShouldOnlyIncludeRowsInRange() throws Exception {
+        String ndjson = export(AdminExportService.Dataset.USERS, ExportFormat.NDJSON, bob.getId(), Long.MAX_VALUE);
+
+        String[] lines = ndjson.split("\n");
+        assertEquals(1, lines.length);
+        assertEquals("bob", objectMapper.readTree(lines[0]).get("username").asText());
+    }
+
+    @Test
+    void export_LinksNdjson_ShouldIncludeOwner() throws Exception {
+        String[] lines = export(AdminExportService.Dataset.LINKS, ExportFormat.NDJSON, 1, Long.MAX_VALUE).split("\n");
+
+        assertEquals(3, lines.length);
+        assertEquals("bob", objectMapper.readTree(lines[2]).get("username").asText());
+        assertEquals("Portfolio", objectMapper.readTree(lines[2]).get("title").asText());
+    }
+
+    @Test
+    void tryStart_ShouldLimitConcurrentExports() {
+        assertTrue(adminExportService.tryStart());
+        assertFalse(adminExportService.tryStart());
+        adminExportService.finish();
+        assertTrue(adminExportService.tryStart());
+        adminExportService.finish();
+    }
+
+    private String export(AdminExportService.Dataset dataset, ExportFormat format, long fromId, long toId)
+            throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        adminExportService.export(dataset, format, fromId, toId, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
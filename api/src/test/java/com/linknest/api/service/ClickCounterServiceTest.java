@@ -0,0 +1,120 @@
+package com.linknest.api.service;
+
+import com.linknest.api.repository.LinkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClickCounterServiceTest {
+
+    @Mock
+    private LinkRepository linkRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ClickCounterService clickCounterService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(clickCounterService, "batchSize", 2);
+        ReflectionTestUtils.setField(clickCounterService, "countCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(clickCounterService, "countCacheTtlSeconds", 60L);
+        clickCounterService.init();
+    }
+
+    // Clicks are counted in memory on top of the persisted count, which is read only once
+    @Test
+    void recordClick_ShouldReturnPersistedPlusPendingCount() {
+        when(linkRepository.findClickCountById(1L)).thenReturn(Optional.of(10L));
+
+        assertEquals(11, clickCounterService.recordClick(1L));
+        assertEquals(12, clickCounterService.recordClick(1L));
+        assertEquals(2, clickCounterService.pendingClicks(1L));
+        verify(linkRepository, times(1)).findClickCountById(1L);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    // A flush moves clicks into the row without changing the count clicks return
+    @Test
+    void recordClick_AfterFlush_ShouldKeepCounting() {
+        when(linkRepository.findClickCountById(1L)).thenReturn(Optional.of(10L));
+        clickCounterService.recordClick(1L);
+        clickCounterService.recordClick(1L);
+
+        clickCounterService.flush();
+
+        assertEquals(13, clickCounterService.recordClick(1L));
+        verify(linkRepository, times(1)).findClickCountById(1L);
+    }
+
+    // A counter reloaded while clicks are pending adds them to the persisted count
+    @Test
+    void recordClick_ReloadWithPendingClicks_ShouldIncludeThem() {
+        when(linkRepository.findClickCountById(1L)).thenReturn(Optional.of(10L));
+        clickCounterService.recordClick(1L);
+        // A fresh counter cache stands in for an expired entry
+        clickCounterService.init();
+
+        assertEquals(12, clickCounterService.recordClick(1L));
+    }
+
+    // Clicking an unknown link fails without touching the counters
+    @Test
+    void recordClick_UnknownLink_ShouldThrowException() {
+        when(linkRepository.findClickCountById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class, () -> clickCounterService.recordClick(99L));
+        assertEquals(0, clickCounterService.pendingClicks(99L));
+    }
+
+    // Flush writes one increment per link, split into batches of the configured size
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldWriteDeltasInBatches() {
+        when(linkRepository.findClickCountById(anyLong())).thenReturn(Optional.of(0L));
+        clickCounterService.recordClick(1L);
+        clickCounterService.recordClick(1L);
+        clickCounterService.recordClick(2L);
+        clickCounterService.recordClick(3L);
+
+        clickCounterService.flush();
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), captor.capture());
+        long totalDelta = captor.getAllValues().stream()
+                .flatMap(List::stream)
+                .mapToLong(args -> (Long) args[0])
+                .sum();
+        assertEquals(4, totalDelta);
+        assertEquals(0, clickCounterService.pendingClicks(1L));
+    }
+
+    // A failed flush keeps the deltas so the next flush retries them
+    @Test
+    void flush_DatabaseFailure_ShouldKeepPendingClicks() {
+        when(linkRepository.findClickCountById(1L)).thenReturn(Optional.of(0L));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("db down"));
+        clickCounterService.recordClick(1L);
+
+        clickCounterService.flush();
+
+        assertEquals(1, clickCounterService.pendingClicks(1L));
+    }
+}
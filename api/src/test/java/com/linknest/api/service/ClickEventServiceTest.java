@@ -0,0 +1,81 @@
+package com.linknest.api.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClickEventServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ClickEventService clickEventService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(clickEventService, "queueCapacity", 3);
+        ReflectionTestUtils.setField(clickEventService, "batchSize", 2);
+        clickEventService.init();
+    }
+
+    // A full queue drops new events instead of blocking the click request
+    @Test
+    void record_QueueFull_ShouldDropAndCount() {
+        for (long i = 0; i < 3; i++) {
+            assertTrue(clickEventService.record(i, null, null));
+        }
+
+        assertFalse(clickEventService.record(4L, null, null));
+        assertEquals(1L, clickEventService.metrics().get("dropped"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    // Flush drains the queue in batches of batchSize
+    @Test
+    void flush_ShouldInsertInBatches() {
+        for (long i = 0; i < 3; i++) {
+            clickEventService.record(i, "https://news.example.com/item?id=1", "de");
+        }
+
+        clickEventService.flush();
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        assertEquals(3L, clickEventService.metrics().get("written"));
+        assertEquals(0, clickEventService.metrics().get("queued"));
+    }
+
+    @Test
+    void flush_DatabaseError_ShouldCountDroppedEvents() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        clickEventService.record(1L, null, null);
+
+        clickEventService.flush();
+
+        assertEquals(1L, clickEventService.metrics().get("dropped"));
+    }
+
+    // Only the host of the referrer is hashed; malformed values are ignored
+    @Test
+    void referrerHash_ShouldUseHostOnly() {
+        assertEquals(ClickEventService.referrerHash("https://News.example.com/a?b=c"),
+                ClickEventService.referrerHash("http://news.example.com/other"));
+        assertNull(ClickEventService.referrerHash("not a url"));
+        assertNull(ClickEventService.referrerHash(null));
+        assertEquals("DE", ClickEventService.normalizeCountry("de"));
+        assertNull(ClickEventService.normalizeCountry("Germany"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.linknest.api.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClickRateLimiterTest {
+
+    private ClickRateLimiter limiter;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new ClickRateLimiter();
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "capacity", 3);
+        ReflectionTestUtils.setField(limiter, "refillIntervalMs", 1000L);
+        ReflectionTestUtils.setField(limiter, "maxKeys", 1000L);
+        limiter.nanoClock = () -> now;
+        limiter.init();
+    }
+
+    // A burst of `capacity` clicks is allowed, then one per refill interval
+    @Test
+    void tryAcquire_ShouldAllowBurstThenRefill() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire("10.0.0.1", 1L));
+        }
+        assertFalse(limiter.tryAcquire("10.0.0.1", 1L));
+
+        now += TimeUnit.MILLISECONDS.toNanos(1000);
+        assertTrue(limiter.tryAcquire("10.0.0.1", 1L));
+        assertFalse(limiter.tryAcquire("10.0.0.1", 1L));
+
+        assertEquals(4L, limiter.metrics().get("accepted"));
+        assertEquals(2L, limiter.metrics().get("dropped"));
+    }
+
+    // Buckets are independent per client and per link
+    @Test
+    void tryAcquire_ShouldKeepSeparateBucketsPerClientAndLink() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("10.0.0.1", 1L);
+        }
+
+        assertFalse(limiter.tryAcquire("10.0.0.1", 1L));
+        assertTrue(limiter.tryAcquire("10.0.0.2", 1L));
+        assertTrue(limiter.tryAcquire("10.0.0.1", 2L));
+    }
+
+    // An idle bucket never holds more than `capacity` tokens
+    @Test
+    void tryAcquire_LongIdle_ShouldNotExceedCapacity() {
+        limiter.tryAcquire("10.0.0.1", 1L);
+        now += TimeUnit.HOURS.toNanos(1);
+
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (limiter.tryAcquire("10.0.0.1", 1L)) {
+                allowed++;
+            }
+        }
+        assertEquals(3, allowed);
+    }
+
+    // Concurrent callers never get more tokens than the bucket holds
+    @Test
+    void tryAcquire_Concurrent_ShouldNotOverAdmit() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger allowed = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                if (limiter.tryAcquire("10.0.0.1", 1L)) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(3, allowed.get());
+        assertEquals(997L, limiter.metrics().get("dropped"));
+    }
+
+    @Test
+    void tryAcquire_Disabled_ShouldAlwaysAllow() {
+        ReflectionTestUtils.setField(limiter, "enabled", false);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire("10.0.0.1", 1L));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.linknest.api.service;
+
+import com.linknest.api.TestFixtures;
+import com.linknest.api.dto.ClickBucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({ClickRollupService.class, TestFixtures.class})
+class ClickRollupServiceTest {
+
+    @Autowired
+    private ClickRollupService clickRollupService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Long linkId;
+    private LocalDateTime currentHour;
+
+    @BeforeEach
+    void setUp() {
+        linkId = fixtures.saveLink(fixtures.saveUser("alice"), "GitHub").getId();
+
+        currentHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+    }
+
+    @Test
+    void rollup_ShouldAggregateEventsPerHourAndDay() {
+        insertEvent(currentHour.plusMinutes(1));
+        insertEvent(currentHour.plusMinutes(2));
+        insertEvent(currentHour.minusHours(2).plusMinutes(30));
+
+        clickRollupService.rollup();
+
+        List<ClickBucket> hours = clickRollupService.timeseries(linkId, ClickRollupService.Granularity.HOUR, 3);
+        assertEquals(List.of(1L, 0L, 2L), hours.stream().map(ClickBucket::clicks).toList());
+        assertEquals(currentHour, hours.get(2).bucketStart());
+
+        long today = clickRollupService.timeseries(linkId, ClickRollupService.Granularity.DAY, 1).get(0).clicks();
+        long expectedToday = currentHour.minusHours(2).toLocalDate().equals(currentHour.toLocalDate()) ? 3 : 2;
+        assertEquals(expectedToday, today);
+    }
+
+    // Later runs only pick up new events, and recomputing a bucket never double counts
+    @Test
+    void rollup_ShouldBeIncremental() {
+        insertEvent(currentHour.plusMinutes(1));
+        clickRollupService.rollup();
+        clickRollupService.rollup();
+
+        insertEvent(currentHour.plusMinutes(5));
+        clickRollupService.rollup();
+
+        List<ClickBucket> hours = clickRollupService.timeseries(linkId, ClickRollupService.Granularity.HOUR, 1);
+        assertEquals(2L, hours.get(0).clicks());
+    }
+
+    @Test
+    void applyRetention_ShouldDeleteExpiredEvents() {
+        insertEvent(LocalDateTime.now().minusDays(40));
+        insertEvent(LocalDateTime.now());
+
+        clickRollupService.applyRetention();
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM click_events", Integer.class));
+    }
+
+    private void insertEvent(LocalDateTime clickedAt) {
+        jdbcTemplate.update("INSERT INTO click_events (link_id, clicked_at) VALUES (?, ?)",
+                linkId, Timestamp.valueOf(clickedAt));
+    }
+}
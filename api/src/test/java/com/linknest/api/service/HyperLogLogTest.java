@@ -0,0 +1,71 @@
+package com.linknest.api.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimate_EmptySketch_ShouldBeZero() {
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+
+    // Small counts use linear counting and are close to exact
+    @Test
+    void estimate_SmallCardinality_ShouldBeNearlyExact() {
+        HyperLogLog sketch = sketchOf(0, 100);
+
+        assertEquals(100, sketch.estimate(), 3);
+    }
+
+    // Within 3 standard errors of the true count
+    @Test
+    void estimate_LargeCardinality_ShouldBeWithinErrorBound() {
+        for (int n : new int[] {10_000, 200_000}) {
+            long estimate = sketchOf(0, n).estimate();
+            assertEquals(n, estimate, 3 * HyperLogLog.RELATIVE_ERROR * n, "n=" + n);
+        }
+    }
+
+    // Repeat visitors are not counted twice
+    @Test
+    void add_Duplicates_ShouldNotChangeEstimate() {
+        HyperLogLog sketch = sketchOf(0, 5_000);
+        long before = sketch.estimate();
+
+        for (int i = 0; i < 5_000; i++) {
+            sketch.add(UniqueVisitorService.fingerprint("10.0.0." + i, "agent"));
+        }
+
+        assertEquals(before, sketch.estimate());
+    }
+
+    // Merging overlapping sketches estimates the union
+    @Test
+    void merge_ShouldEstimateUnion() {
+        HyperLogLog merged = sketchOf(0, 30_000).merge(sketchOf(20_000, 50_000));
+
+        assertEquals(50_000, merged.estimate(), 3 * HyperLogLog.RELATIVE_ERROR * 50_000);
+        assertEquals(merged, merged.copy().merge(sketchOf(0, 50_000)));
+    }
+
+    @Test
+    void toBytes_ShouldRoundTrip() {
+        HyperLogLog sketch = sketchOf(0, 1_000);
+
+        byte[] bytes = sketch.toBytes();
+
+        assertEquals(HyperLogLog.REGISTERS, bytes.length);
+        assertEquals(sketch, HyperLogLog.fromBytes(bytes));
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[10]));
+    }
+
+    private static HyperLogLog sketchOf(int from, int to) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = from; i < to; i++) {
+            sketch.add(UniqueVisitorService.fingerprint("10.0.0." + i, "agent"));
+        }
+        return sketch;
+    }
+}
@@ -0,0 +1,134 @@
+package com.linknest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linknest.api.TestFixtures;
+import com.linknest.api.dto.LinkBatchRequest;
+import com.linknest.api.dto.LinkBatchResult;
+import com.linknest.api.dto.LinkInput;
+import com.linknest.api.dto.LinkResponse;
+import com.linknest.api.model.Link;
+import com.linknest.api.model.User;
+import com.linknest.api.repository.LinkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({LinkBulkService.class, LinkOrderService.class, JacksonAutoConfiguration.class, TestFixtures.class})
+class LinkBulkServiceTest {
+
+    @Autowired
+    private LinkBulkService linkBulkService;
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User alice;
+    private Link aliceLink;
+    private Link bobLink;
+
+    @BeforeEach
+    void setUp() {
+        alice = fixtures.saveUser("alice");
+        User bob = fixtures.saveUser("bob");
+        aliceLink = fixtures.saveLink(alice, "GitHub");
+        bobLink = fixtures.saveLink(bob, "Portfolio");
+    }
+
+    // Creates, updates and deletes are applied together
+    @Test
+    void applyBatch_ShouldApplyAllOperations() {
+        Link toDelete = fixtures.saveLink(alice, "Old");
+        LinkBatchRequest request = new LinkBatchRequest();
+        request.getCreates().add(input(null, "Blog", "https://blog.example.com"));
+        request.getCreates().add(input(null, "Docs", "https://docs.example.com"));
+        request.getUpdates().add(input(aliceLink.getId(), "GitHub (new)", "https://github.com/alice"));
+        request.getDeletes().add(toDelete.getId());
+
+        LinkBatchResult result = linkBulkService.applyBatch("alice", request);
+
+        assertEquals(2, result.created().size());
+        assertEquals(1, result.updated());
+        assertEquals(1, result.deleted());
+        assertEquals(List.of("GitHub (new)", "Blog", "Docs"),
+                linkRepository.findResponsesByUsername("alice").stream().map(LinkResponse::title).toList());
+    }
+
+    // Lists left out or sent as null are empty; null entries are a bad request, not a server error
+    @Test
+    void applyBatch_MissingOrNullParts_ShouldNotFail() throws Exception {
+        LinkBatchRequest request = objectMapper.readValue(
+                "{\"creates\":null,\"deletes\":[" + aliceLink.getId() + "]}", LinkBatchRequest.class);
+
+        LinkBatchResult result = linkBulkService.applyBatch("alice", request);
+
+        assertEquals(1, result.deleted());
+        assertEquals(0, linkBulkService.applyBatch("alice", objectMapper.readValue("{}", LinkBatchRequest.class)).updated());
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> linkBulkService.applyBatch("alice",
+                objectMapper.readValue("{\"updates\":[null]}", LinkBatchRequest.class)));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+
+    // Touching someone else's link rejects the whole batch
+    @Test
+    void applyBatch_ForeignLink_ShouldBeForbidden() {
+        LinkBatchRequest request = new LinkBatchRequest();
+        request.getDeletes().add(bobLink.getId());
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> linkBulkService.applyBatch("alice", request));
+        assertEquals(HttpStatus.FORBIDDEN, e.getStatusCode());
+    }
+
+    // CSV import skips the header and understands quoted fields
+    @Test
+    void importLinks_Csv_ShouldImportEveryRow() throws Exception {
+        String csv = "title,url,category\n"
+                + "\"Hello, world\",https://hello.example.com,Social\n"
+                + "Shop,https://shop.example.com,\n";
+
+        int imported = linkBulkService.importLinks("alice",
+                new BufferedReader(new StringReader(csv)), LinkBulkService.ImportFormat.CSV);
+
+        assertEquals(2, imported);
+        List<LinkResponse> links = linkRepository.findResponsesByUsername("alice");
+        assertEquals("Hello, world", links.get(1).title());
+        assertEquals("Other", links.get(2).category());
+    }
+
+    // NDJSON import reports the line of the first invalid record
+    @Test
+    void importLinks_InvalidNdjson_ShouldReportLine() {
+        String ndjson = "{\"title\":\"Ok\",\"url\":\"https://ok.example.com\"}\n{\"title\":\"No url\"}\n";
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> linkBulkService.importLinks("alice",
+                        new BufferedReader(new StringReader(ndjson)), LinkBulkService.ImportFormat.NDJSON));
+        assertTrue(e.getReason().contains("line 2"));
+    }
+
+    private static LinkInput input(Long id, String title, String url) {
+        LinkInput input = new LinkInput();
+        input.setId(id);
+        input.setTitle(title);
+        input.setUrl(url);
+        return input;
+    }
+}
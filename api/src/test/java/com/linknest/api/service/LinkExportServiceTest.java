@@ -0,0 +1,112 @@
+package com.linknest.api.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linknest.api.TestFixtures;
+import com.linknest.api.config.JsonWriters;
+import com.linknest.api.dto.LinkResponse;
+import com.linknest.api.model.User;
+import com.linknest.api.repository.LinkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({LinkExportService.class, LinkBulkService.class, LinkOrderService.class, JsonWriters.class, JacksonAutoConfiguration.class,
+        TestFixtures.class})
+class LinkExportServiceTest {
+
+    @Autowired
+    private LinkExportService linkExportService;
+
+    @Autowired
+    private LinkBulkService linkBulkService;
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        User alice = fixtures.saveUser("alice");
+        fixtures.saveUser("bob");
+        fixtures.saveLink(alice, "GitHub", link -> link.setClickCount(3L));
+        fixtures.saveLink(alice, "Hello, \"world\"", link -> link.setClickCount(null));
+    }
+
+    @Test
+    void exportLinks_Json_ShouldWriteArrayWithAnalytics() throws Exception {
+        JsonNode links = objectMapper.readTree(export(ExportFormat.JSON));
+
+        assertEquals(2, links.size());
+        assertEquals("GitHub", links.get(0).get("title").asText());
+        assertEquals(3, links.get(0).get("clickCount").asLong());
+    }
+
+    @Test
+    void exportLinks_Ndjson_ShouldWriteOneObjectPerLine() throws Exception {
+        String[] lines = export(ExportFormat.NDJSON).split("\n");
+
+        assertEquals(2, lines.length);
+        assertEquals("Hello, \"world\"", objectMapper.readTree(lines[1]).get("title").asText());
+    }
+
+    // A CSV export can be imported again as-is
+    @Test
+    void exportLinks_Csv_ShouldRoundTripThroughImport() throws Exception {
+        String csv = export(ExportFormat.CSV);
+        assertTrue(csv.startsWith(LinkCsv.EXPORT_HEADER + "\n"));
+
+        int imported = linkBulkService.importLinks("bob",
+                new BufferedReader(new StringReader(csv)), LinkBulkService.ImportFormat.CSV);
+
+        assertEquals(2, imported);
+        assertEquals(List.of("GitHub", "Hello, \"world\""),
+                linkRepository.findResponsesByUsername("bob").stream().map(LinkResponse::title).toList());
+    }
+
+    // Line breaks are exported inside the quoted field, and the importer reads on to its closing quote
+    @Test
+    void exportLinks_CsvWithLineBreak_ShouldRoundTripThroughImport() throws Exception {
+        fixtures.saveLink(fixtures.saveUser("carol"), "Line one\nLine \"two\"");
+        String csv = export(ExportFormat.CSV, "carol");
+
+        int imported = linkBulkService.importLinks("bob",
+                new BufferedReader(new StringReader(csv)), LinkBulkService.ImportFormat.CSV);
+
+        assertEquals(1, imported);
+        assertEquals(List.of("Line one\nLine \"two\""),
+                linkRepository.findResponsesByUsername("bob").stream().map(LinkResponse::title).toList());
+    }
+
+    @Test
+    void exportLinks_NoLinks_ShouldWriteEmptyArray() throws Exception {
+        assertEquals("[]", export(ExportFormat.JSON, "bob"));
+    }
+
+    private String export(ExportFormat format) throws Exception {
+        return export(format, "alice");
+    }
+
+    private String export(ExportFormat format, String username) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        linkExportService.exportLinks(username, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
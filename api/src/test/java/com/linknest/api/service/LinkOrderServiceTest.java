@@ -0,0 +1,122 @@
+package com.linknest.api.service;
+
+import com.linknest.api.TestFixtures;
+import com.linknest.api.dto.LinkResponse;
+import com.linknest.api.model.Link;
+import com.linknest.api.model.User;
+import com.linknest.api.repository.LinkRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({LinkOrderService.class, TestFixtures.class})
+class LinkOrderServiceTest {
+
+    @Autowired
+    private LinkOrderService linkOrderService;
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User alice;
+    private Link a;
+    private Link b;
+    private Link c;
+
+    @BeforeEach
+    void setUp() {
+        alice = fixtures.saveUser("alice");
+        a = append("A");
+        b = append("B");
+        c = append("C");
+    }
+
+    // New links go after the current last one
+    @Test
+    void nextPosition_ShouldAppend() {
+        assertEquals(List.of(LinkOrderService.GAP, 2 * LinkOrderService.GAP, 3 * LinkOrderService.GAP),
+                List.of(a.getPosition(), b.getPosition(), c.getPosition()));
+        assertEquals(List.of("A", "B", "C"), titles());
+    }
+
+    // A move lands between its new neighbours and only the moved row changes
+    @Test
+    void moveAfter_ShouldTakeMidpointOfNeighbours() {
+        long position = linkOrderService.moveAfter(c, a);
+
+        assertEquals(LinkOrderService.GAP + LinkOrderService.GAP / 2, position);
+        assertEquals(List.of("A", "C", "B"), titles());
+        assertEquals(List.of(LinkOrderService.GAP, 2 * LinkOrderService.GAP), List.of(
+                reload(a).getPosition(), reload(b).getPosition()));
+    }
+
+    @Test
+    void moveAfter_ToTopAndToEnd() {
+        linkOrderService.moveAfter(c, null);
+        assertEquals(List.of("C", "A", "B"), titles());
+
+        linkOrderService.moveAfter(reload(c), reload(b));
+        assertEquals(List.of("A", "B", "C"), titles());
+    }
+
+    // Neighbours 1 apart leave no midpoint, so the user's links are renumbered GAP apart
+    @Test
+    void moveAfter_NoGapLeft_ShouldRenumber() {
+        linkRepository.updatePosition(b.getId(), a.getPosition() + 1);
+
+        long position = linkOrderService.moveAfter(reload(c), reload(a));
+
+        assertEquals(2 * LinkOrderService.GAP, position);
+        assertEquals(List.of("A", "C", "B"), titles());
+        assertEquals(List.of(LinkOrderService.GAP, 2 * LinkOrderService.GAP, 3 * LinkOrderService.GAP),
+                List.of(reload(a).getPosition(), reload(c).getPosition(), reload(b).getPosition()));
+    }
+
+    // Links sharing a position are ordered by id; moving between them needs a renumber, not a skip
+    @Test
+    void moveAfter_NeighbourWithSamePosition_ShouldLandBetween() {
+        linkRepository.updatePosition(b.getId(), a.getPosition());
+
+        linkOrderService.moveAfter(reload(c), reload(a));
+
+        assertEquals(List.of("A", "C", "B"), titles());
+    }
+
+    // Positions are read under the user lock, not from entities loaded before another move committed
+    @Test
+    void moveAfter_StaleNeighbour_ShouldUseCurrentPosition() {
+        linkRepository.updatePosition(a.getId(), 4 * LinkOrderService.GAP);
+
+        linkOrderService.moveAfter(b, a);
+
+        assertEquals(List.of("C", "A", "B"), titles());
+    }
+
+    private Link append(String title) {
+        return fixtures.saveLink(alice, title, link -> link.setPosition(linkOrderService.nextPosition(alice)));
+    }
+
+    private Link reload(Link link) {
+        entityManager.clear();
+        return linkRepository.findById(link.getId()).orElseThrow();
+    }
+
+    private List<String> titles() {
+        entityManager.clear();
+        return linkRepository.findResponsesByUsername("alice").stream().map(LinkResponse::title).toList();
+    }
+}
@@ -0,0 +1,55 @@
+package com.linknest.api.service;
+
+import com.linknest.api.dto.LinkResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkSearchIndexTest {
+
+    private final LinkSearchIndex index = LinkSearchIndex.of(List.of(
+            link(1L, "My GitHub profile", "https://github.com/alice", "Work"),
+            link(2L, "Holiday photos", "https://photos.example.com", "Social"),
+            link(3L, "Work notes", "https://notes.example.com", "Work")));
+
+    // Query words match the start of title, domain or category words, case-insensitively
+    @Test
+    void search_ShouldMatchPrefixes() {
+        assertEquals(List.of(1L), index.search("git"));
+        assertEquals(List.of(2L, 3L), index.search("EXAMPLE"));
+        assertEquals(List.of(1L, 3L), index.search("work"));
+        assertEquals(List.of(), index.search("hub"));
+    }
+
+    // Every query word has to match
+    @Test
+    void search_MultipleWords_ShouldIntersect() {
+        assertEquals(List.of(3L), index.search("work no"));
+        assertEquals(List.of(), index.search("github photos"));
+        assertEquals(List.of(), index.search("  ,. "));
+    }
+
+    // Re-indexing drops the old words but keeps the link's place in the order
+    @Test
+    void put_ExistingLink_ShouldReplaceTokens() {
+        index.put(link(1L, "Code", "https://gitlab.com/alice", "Work"));
+
+        assertEquals(List.of(), index.search("github"));
+        assertEquals(List.of(1L, 3L), index.search("work"));
+        assertEquals(List.of(1L), index.search("gitlab"));
+    }
+
+    @Test
+    void remove_ShouldDropLinkFromResults() {
+        index.remove(3L);
+
+        assertEquals(List.of(1L), index.search("work"));
+        assertEquals(2, index.size());
+    }
+
+    private static LinkResponse link(Long id, String title, String url, String category) {
+        return new LinkResponse(id, title, url, category, 0L, null, null, null, null);
+    }
+}
@@ -0,0 +1,103 @@
+package com.linknest.api.service;
+
+import com.linknest.api.TestFixtures;
+import com.linknest.api.dto.LinkResponse;
+import com.linknest.api.dto.LinkSearchResult;
+import com.linknest.api.model.Link;
+import com.linknest.api.model.User;
+import com.linknest.api.repository.LinkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({LinkSearchService.class, TestFixtures.class})
+class LinkSearchServiceTest {
+
+    @Autowired
+    private LinkSearchService linkSearchService;
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        alice = fixtures.saveUser("alice");
+        User bob = fixtures.saveUser("bob");
+        for (int i = 1; i <= 5; i++) {
+            saveLink(alice, "Docs " + i, 1024L * i);
+        }
+        saveLink(alice, "Blog", 6 * 1024L);
+        saveLink(bob, "Docs of bob", 1024L);
+    }
+
+    // Only the user's own links, paged in display order, with the total match count
+    @Test
+    void search_ShouldPageOwnLinksInDisplayOrder() {
+        LinkSearchResult first = linkSearchService.search("alice", "doc", 0, 2);
+        LinkSearchResult last = linkSearchService.search("alice", "doc", 2, 2);
+
+        assertEquals(5, first.total());
+        assertEquals(List.of("Docs 1", "Docs 2"), titles(first));
+        assertEquals(List.of("Docs 5"), titles(last));
+        assertEquals(List.of(), titles(linkSearchService.search("alice", "doc", 3, 2)));
+    }
+
+    // Once built, the index follows single-link changes without a rebuild
+    @Test
+    void linkSavedAndDeleted_ShouldUpdateBuiltIndex() {
+        linkSearchService.search("alice", "doc", 0, 10);
+
+        Link recipes = saveLink(alice, "Recipes", 7 * 1024L);
+        committed(() -> linkSearchService.linkSaved("alice", LinkResponse.from(recipes)));
+        assertEquals(List.of("Recipes"), titles(linkSearchService.search("alice", "rec", 0, 10)));
+
+        linkRepository.delete(recipes);
+        committed(() -> linkSearchService.linkDeleted("alice", recipes.getId()));
+        assertEquals(0, linkSearchService.search("alice", "rec", 0, 10).total());
+    }
+
+    // Bulk changes are not applied to the index; invalidating makes the next search rebuild it
+    @Test
+    void invalidate_ShouldRebuildOnNextSearch() {
+        linkSearchService.search("alice", "doc", 0, 10);
+        saveLink(alice, "Imported", 8 * 1024L);
+        assertEquals(0, linkSearchService.search("alice", "imp", 0, 10).total());
+
+        committed(() -> linkSearchService.invalidate("alice"));
+
+        assertEquals(1, linkSearchService.search("alice", "imp", 0, 10).total());
+    }
+
+    // Index updates wait for the caller's commit, and the test's own transaction never commits
+    private void committed(Runnable action) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.executeWithoutResult(status -> action.run());
+    }
+
+    private static List<String> titles(LinkSearchResult result) {
+        return result.links().stream().map(LinkResponse::title).toList();
+    }
+
+    private Link saveLink(User user, String title, long position) {
+        return fixtures.saveLink(user, title, link -> link.setPosition(position));
+    }
+}
@@ -0,0 +1,154 @@
+package com.linknest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linknest.api.config.JsonWriters;
+import com.linknest.api.dto.LinkResponse;
+import com.linknest.api.dto.PublicProfileView;
+import com.linknest.api.model.User;
+import com.linknest.api.repository.LinkRepository;
+import com.linknest.api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PublicProfileServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private LinkRepository linkRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private JsonWriters jsonWriters = new JsonWriters();
+
+    @InjectMocks
+    private PublicProfileService publicProfileService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jsonWriters, "objectMapper", new ObjectMapper().findAndRegisterModules());
+        jsonWriters.init();
+        ReflectionTestUtils.setField(publicProfileService, "cacheMaxSize", 100L);
+        ReflectionTestUtils.setField(publicProfileService, "cacheTtlSeconds", 60L);
+        publicProfileService.init();
+    }
+
+    // Repeated views are served from memory until the owner changes something
+    @Test
+    void getPublicProfile_RepeatedViews_ShouldHitCacheUntilEvicted() {
+        User user = publicUser("yajnesh");
+        LinkResponse link = new LinkResponse(1L, "GitHub", "https://github.com/yajnesh", "Work",
+                0L, null, null, null, null);
+        when(userRepository.findByUsername("yajnesh")).thenReturn(Optional.of(user));
+        when(linkRepository.findResponsesByUsername("yajnesh")).thenReturn(List.of(link));
+
+        PublicProfileView first = publicProfileService.getPublicProfile("yajnesh");
+        publicProfileService.getPublicProfile("yajnesh");
+
+        assertTrue(first.isPublic());
+        assertTrue(new String(first.profileJson()).contains("\"linkCount\":1"));
+        assertTrue(new String(first.linksJson()).contains("\"displayDomain\":\"github.com\""));
+        verify(userRepository, times(1)).findByUsername("yajnesh");
+        assertEquals(1L, publicProfileService.cacheMetrics().get("hits"));
+
+        publicProfileService.contentChanged("yajnesh");
+        publicProfileService.getPublicProfile("yajnesh");
+        verify(userRepository, times(2)).findByUsername("yajnesh");
+        verify(userRepository).incrementContentVersions(List.of("yajnesh"));
+    }
+
+    // Inside a transaction the cached view is kept until commit, so a miss in between
+    // cannot reload the old row and cache it again
+    @Test
+    void contentChanged_InTransaction_ShouldEvictAfterCommit() {
+        when(userRepository.findByUsername("yajnesh")).thenReturn(Optional.of(publicUser("yajnesh")));
+        when(linkRepository.findResponsesByUsername("yajnesh")).thenReturn(List.of());
+        publicProfileService.getPublicProfile("yajnesh");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            publicProfileService.contentChanged("yajnesh");
+            assertEquals(1L, publicProfileService.cacheMetrics().get("size"));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(0L, publicProfileService.cacheMetrics().get("size"));
+    }
+
+    // Cached views answer version checks without a query
+    @Test
+    void currentVersion_CachedProfile_ShouldNotQueryDatabase() {
+        User user = publicUser("yajnesh");
+        user.setContentVersion(7L);
+        when(userRepository.findByUsername("yajnesh")).thenReturn(Optional.of(user));
+        when(linkRepository.findResponsesByUsername("yajnesh")).thenReturn(List.of());
+
+        publicProfileService.getPublicProfile("yajnesh");
+
+        assertEquals(7L, publicProfileService.currentVersion("yajnesh"));
+        verify(userRepository, never()).findPublicContentVersion(anyString());
+    }
+
+    // The link list ETag includes the click total, so reloaded counts are not answered with 304
+    @Test
+    void getPublicProfile_ShouldTotalClicksOfLinks() {
+        when(userRepository.findByUsername("yajnesh")).thenReturn(Optional.of(publicUser("yajnesh")));
+        when(linkRepository.findResponsesByUsername("yajnesh")).thenReturn(List.of(
+                new LinkResponse(1L, "GitHub", "https://github.com/yajnesh", "Work", 5L, null, null, null, null),
+                new LinkResponse(2L, "Blog", "https://blog.example.com", "Social", null, null, null, null, null)));
+
+        assertEquals(5L, publicProfileService.getPublicProfile("yajnesh").clicks());
+    }
+
+    // Private profiles are cached as private, without loading their links
+    @Test
+    void getPublicProfile_PrivateProfile_ShouldNotExposeData() {
+        User user = publicUser("hidden");
+        user.setIsPublic(false);
+        when(userRepository.findByUsername("hidden")).thenReturn(Optional.of(user));
+
+        PublicProfileView view = publicProfileService.getPublicProfile("hidden");
+
+        assertFalse(view.isPublic());
+        assertNull(view.profileJson());
+        verifyNoInteractions(linkRepository);
+    }
+
+    // Unknown users are an error and are not cached
+    @Test
+    void getPublicProfile_UnknownUser_ShouldThrowException() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class, () -> publicProfileService.getPublicProfile("ghost"));
+        assertEquals(0L, publicProfileService.cacheMetrics().get("size"));
+    }
+
+    private User publicUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setDisplayName("Display " + username);
+        return user;
+    }
+}
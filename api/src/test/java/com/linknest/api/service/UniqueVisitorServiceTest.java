@@ -0,0 +1,110 @@
+package com.linknest.api.service;
+
+import com.linknest.api.TestFixtures;
+import com.linknest.api.dto.UniqueVisitorSummary;
+import com.linknest.api.dto.VisitorBucket;
+import com.linknest.api.model.LinkDayId;
+import com.linknest.api.model.LinkVisitorSketchDaily;
+import com.linknest.api.model.User;
+import com.linknest.api.repository.LinkVisitorSketchDailyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({UniqueVisitorService.class, TestFixtures.class})
+class UniqueVisitorServiceTest {
+
+    @Autowired
+    private UniqueVisitorService uniqueVisitorService;
+
+    @Autowired
+    private LinkVisitorSketchDailyRepository dailyRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Long githubId;
+    private Long blogId;
+
+    @BeforeEach
+    void setUp() {
+        User user = fixtures.saveUser("alice");
+        githubId = saveLink(user, "GitHub", "Work");
+        blogId = saveLink(user, "Blog", "Social");
+    }
+
+    // Categories and the total are unions: a visitor of both links counts once
+    @Test
+    void summarize_ShouldCountEachVisitorOnce() {
+        for (int i = 0; i < 40; i++) {
+            uniqueVisitorService.recordVisit(githubId, "10.0.0." + i, "agent");
+            uniqueVisitorService.recordVisit(githubId, "10.0.0." + i, "agent");
+        }
+        for (int i = 20; i < 60; i++) {
+            uniqueVisitorService.recordVisit(blogId, "10.0.0." + i, "agent");
+        }
+        uniqueVisitorService.flush();
+
+        UniqueVisitorSummary summary = uniqueVisitorService.summarize("alice");
+
+        assertEquals(40, summary.byLink().get(githubId), 2);
+        assertEquals(40, summary.byCategory().get("Social"), 2);
+        assertEquals(60, summary.total(), 2);
+        assertEquals(HyperLogLog.RELATIVE_ERROR, summary.relativeError());
+    }
+
+    // A second flush merges into the stored sketches instead of replacing them
+    @Test
+    void flush_ShouldMergeWithStoredSketches() {
+        uniqueVisitorService.recordVisit(githubId, "10.0.0.1", "agent");
+        uniqueVisitorService.flush();
+        uniqueVisitorService.recordVisit(githubId, "10.0.0.2", "agent");
+        uniqueVisitorService.recordVisit(githubId, "10.0.0.1", "agent");
+        uniqueVisitorService.flush();
+
+        assertEquals(2, uniqueVisitorService.summarize("alice").byLink().get(githubId));
+        assertEquals(2, uniqueVisitorService.series(githubId, UniqueVisitorService.Granularity.DAY, 1)
+                .get(0).uniqueVisitors());
+    }
+
+    // Weekly buckets are the union of their days
+    @Test
+    void series_Week_ShouldMergeDailySketches() {
+        LocalDate monday = LocalDate.now().with(DayOfWeek.MONDAY);
+        saveDaily(monday, 0, 30);
+        saveDaily(LocalDate.now(), 10, 40);
+
+        List<VisitorBucket> weeks = uniqueVisitorService.series(githubId, UniqueVisitorService.Granularity.WEEK, 2);
+
+        assertEquals(2, weeks.size());
+        assertEquals(0, weeks.get(0).uniqueVisitors());
+        assertEquals(monday, weeks.get(1).start());
+        assertEquals(40, weeks.get(1).uniqueVisitors(), 2);
+    }
+
+    private void saveDaily(LocalDate day, int from, int to) {
+        HyperLogLog sketch = dailyRepository.findById(new LinkDayId(githubId, day))
+                .map(row -> HyperLogLog.fromBytes(row.getSketch()))
+                .orElseGet(HyperLogLog::new);
+        for (int i = from; i < to; i++) {
+            sketch.add(UniqueVisitorService.fingerprint("10.0.0." + i, "agent"));
+        }
+        LinkVisitorSketchDaily row = new LinkVisitorSketchDaily();
+        row.setId(new LinkDayId(githubId, day));
+        row.setSketch(sketch.toBytes());
+        dailyRepository.save(row);
+    }
+
+    private Long saveLink(User user, String title, String category) {
+        return fixtures.saveLink(user, title, link -> link.setCategory(category)).getId();
+    }
+}
@@ -2,6 +2,7 @@ package com.linknest.api.service;
 
 import com.linknest.api.model.User;
 import com.linknest.api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -9,6 +10,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
@@ -24,6 +26,13 @@ class UserDetailsServiceImplTest {
     @InjectMocks
     private UserDetailsServiceImpl userDetailsService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userDetailsService, "cacheMaxSize", 100L);
+        ReflectionTestUtils.setField(userDetailsService, "cacheTtlSeconds", 60L);
+        userDetailsService.init();
+    }
+
     // Test 7: Loading an existing user returns correct UserDetails
     @Test
     void loadUserByUsername_ExistingUser_ShouldReturnUserDetails() {
@@ -54,4 +63,59 @@ class UserDetailsServiceImplTest {
 
         verify(userRepository, times(1)).findByUsername("ghost");
     }
+
+    // Test 9: Repeated lookups are served from the cache until the user is evicted
+    @Test
+    void loadUserByUsername_RepeatedLookups_ShouldHitCacheUntilEvicted() {
+        User mockUser = new User();
+        mockUser.setUsername("yajnesh");
+        mockUser.setPassword("$2a$10$hashedpassword");
+        mockUser.setIsAdmin(true);
+
+        when(userRepository.findByUsername("yajnesh")).thenReturn(Optional.of(mockUser));
+
+        userDetailsService.loadUserByUsername("yajnesh");
+        UserDetails cached = userDetailsService.loadUserByUsername("yajnesh");
+        verify(userRepository, times(1)).findByUsername("yajnesh");
+        assertEquals(1L, userDetailsService.cacheMetrics().get("hits"));
+        assertTrue(cached.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+
+        userDetailsService.evict("yajnesh");
+        userDetailsService.loadUserByUsername("yajnesh");
+        verify(userRepository, times(2)).findByUsername("yajnesh");
+    }
+
+    // Test 10: Each call returns its own UserDetails, so erasing credentials does not affect the cache
+    @Test
+    void loadUserByUsername_ErasedCredentials_ShouldNotLeakIntoCache() {
+        User mockUser = new User();
+        mockUser.setUsername("yajnesh");
+        mockUser.setPassword("$2a$10$hashedpassword");
+        mockUser.setIsAdmin(false);
+
+        when(userRepository.findByUsername("yajnesh")).thenReturn(Optional.of(mockUser));
+
+        UserDetails first = userDetailsService.loadUserByUsername("yajnesh");
+        ((org.springframework.security.core.userdetails.User) first).eraseCredentials();
+
+        assertEquals("$2a$10$hashedpassword", userDetailsService.loadUserByUsername("yajnesh").getPassword());
+    }
+
+    // A re-hashed password is saved and the stale cache entry dropped
+    @Test
+    void updatePassword_ShouldSaveNewHashAndEvictCache() {
+        User mockUser = new User();
+        mockUser.setUsername("yajnesh");
+        mockUser.setPassword("$2a$10$oldhash");
+        mockUser.setIsAdmin(false);
+        when(userRepository.findByUsername("yajnesh")).thenReturn(Optional.of(mockUser));
+        UserDetails before = userDetailsService.loadUserByUsername("yajnesh");
+
+        UserDetails updated = userDetailsService.updatePassword(before, "$2a$12$newhash");
+
+        assertEquals("$2a$12$newhash", updated.getPassword());
+        verify(userRepository).save(mockUser);
+        assertEquals("$2a$12$newhash", userDetailsService.loadUserByUsername("yajnesh").getPassword());
+        verify(userRepository, times(3)).findByUsername("yajnesh");
+    }
 }
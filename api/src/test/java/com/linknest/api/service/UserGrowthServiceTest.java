@@ -0,0 +1,75 @@
+package com.linknest.api.service;
+
+import com.linknest.api.dto.DailyCount;
+import com.linknest.api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserGrowthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserGrowthService userGrowthService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userGrowthService, "cacheSeconds", 60L);
+        userGrowthService.init();
+    }
+
+    // Every day of the window is present, days without registrations count 0
+    @Test
+    void growth_DailyBuckets_ShouldFillEmptyDays() {
+        LocalDate today = LocalDate.now();
+        when(userRepository.countRegistrationsPerDay(any()))
+                .thenReturn(List.of(new DailyCount(today, 4L)));
+
+        List<Map<String, Object>> series = userGrowthService.growth(7, UserGrowthService.Bucket.DAY);
+
+        assertEquals(7, series.size());
+        assertEquals(0L, series.get(0).get("count"));
+        assertEquals(today.toString(), series.get(6).get("date"));
+        assertEquals(4L, series.get(6).get("count"));
+    }
+
+    // Daily rows are summed into the month they belong to
+    @Test
+    void growth_MonthlyBuckets_ShouldSumDays() {
+        LocalDate today = LocalDate.now();
+        when(userRepository.countRegistrationsPerDay(any()))
+                .thenReturn(List.of(new DailyCount(today.withDayOfMonth(1), 2L), new DailyCount(today, 3L)));
+
+        List<Map<String, Object>> series = userGrowthService.growth(today.getDayOfMonth(), UserGrowthService.Bucket.MONTH);
+
+        assertEquals(1, series.size());
+        assertEquals(today.withDayOfMonth(1).toString(), series.get(0).get("date"));
+        assertEquals(5L, series.get(0).get("count"));
+    }
+
+    // Repeated calls within the cache window run the query once
+    @Test
+    void growth_RepeatedCalls_ShouldUseCache() {
+        when(userRepository.countRegistrationsPerDay(any())).thenReturn(List.of());
+
+        userGrowthService.growth(30, UserGrowthService.Bucket.DAY);
+        userGrowthService.growth(30, UserGrowthService.Bucket.DAY);
+
+        verify(userRepository, times(1)).countRegistrationsPerDay(any());
+    }
+}